@@ -0,0 +1,15 @@
+package com.example.demo.domain.chat.archive;
+
+import com.example.demo.domain.chat.entity.ChatMessageEntity;
+
+import java.time.LocalDateTime;
+
+// 묶음 안에 저장되는 메시지 한 건
+public record ArchivedMessage(Long id, Long senderId, String nickname, String content,
+                              String messageType, LocalDateTime createdAt) {
+
+    public static ArchivedMessage from(ChatMessageEntity entity) {
+        return new ArchivedMessage(entity.getId(), entity.getSenderId(), entity.getNickname(),
+                entity.getContent(), entity.getMessageType(), entity.getCreatedAt());
+    }
+}
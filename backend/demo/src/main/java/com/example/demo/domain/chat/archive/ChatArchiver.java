@@ -0,0 +1,108 @@
+package com.example.demo.domain.chat.archive;
+
+import com.example.demo.domain.chat.entity.ChatMessageEntity;
+import com.example.demo.domain.chat.entity.ChatSegmentDocument;
+import com.example.demo.domain.chat.repository.ChatMessageRepository;
+import com.example.demo.domain.chat.repository.ChatSegmentMongoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 채팅 메시지를 MySQL(hot) 에서 MongoDB(cold) 로 옮긴다.
+ * hot-days 보다 오래된 메시지를 방별로 id 순 CHUNK 개씩 읽어 묶음(ChatSegmentDocument)으로 압축 저장한 뒤 MySQL 에서 지운다.
+ * 여러 방이 섞인 id 구간을 자르면 방마다 몇 건짜리 묶음이 생기므로, 보관 대상이 MIN_SEGMENT 개 이상 쌓인 방만 옮기고
+ * 조용한 방은 flush-days 가 더 지나면 남은 것을 한 번에 옮긴다.
+ * 묶음 id 가 내용으로 정해지므로 저장 후 삭제 전에 멈춰도 다음 실행에서 같은 묶음을 덮어쓰고 이어서 지운다.
+ * chat_message 에는 최근 메시지만 남아 인덱스가 메모리에 머무를 만큼 작게 유지된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatArchiver {
+
+    private static final String LOCK_KEY = "lock:chat:archive";
+    private static final int CHUNK = 1000;
+    private static final int MIN_SEGMENT = 200;
+    private static final int CHUNKS_PER_RUN = 50;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatSegmentMongoRepository chatSegmentMongoRepository;
+    private final ChatSegmentCodec chatSegmentCodec;
+    private final RedissonClient redissonClient;
+
+    @Value("${chat.archive.hot-days:30}")
+    private int hotDays;
+
+    @Value("${chat.archive.flush-days:7}")
+    private int flushDays;
+
+    @Scheduled(fixedDelayString = "${chat.archive.interval-ms:600000}")
+    public void archive() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(hotDays);
+            Long maxId = chatMessageRepository.findMaxIdCreatedBefore(cutoff);
+            if (maxId == null) {
+                return;
+            }
+            LocalDateTime flushBefore = cutoff.minusDays(flushDays);
+            List<Long> roomIds = chatMessageRepository.findArchivableRoomIds(maxId, MIN_SEGMENT, flushBefore, PageRequest.of(0, CHUNKS_PER_RUN));
+
+            long start = System.currentTimeMillis();
+            int archived = 0;
+            int segments = 0;
+            for (Long roomId : roomIds) {
+                while (segments < CHUNKS_PER_RUN) {
+                    List<ChatMessageEntity> chunk = chatMessageRepository.findArchiveChunk(roomId, maxId, PageRequest.of(0, CHUNK));
+                    // 덜 찬 마지막 묶음은 충분히 쌓였거나 오래 기다린 경우에만 옮긴다
+                    if (chunk.isEmpty() || (chunk.size() < MIN_SEGMENT && !chunk.get(0).getCreatedAt().isBefore(flushBefore))) {
+                        break;
+                    }
+                    archiveChunk(roomId, chunk);
+                    archived += chunk.size();
+                    segments++;
+                    if (chunk.size() < CHUNK) {
+                        break;
+                    }
+                }
+            }
+            if (archived > 0) {
+                log.info("🗄️ 채팅 보관: rooms={}, messages={}, segments={}, {}ms", roomIds.size(), archived, segments, System.currentTimeMillis() - start);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 묶음 저장이 끝난 뒤에만 MySQL 에서 지운다
+    private void archiveChunk(Long roomId, List<ChatMessageEntity> chunk) {
+        chatSegmentMongoRepository.save(toSegment(roomId, chunk));
+        chatMessageRepository.deleteByIdIn(chunk.stream().map(ChatMessageEntity::getId).toList());
+    }
+    private ChatSegmentDocument toSegment(Long roomId, List<ChatMessageEntity> messages) {
+        ChatMessageEntity first = messages.get(0);
+        ChatMessageEntity last = messages.get(messages.size() - 1);
+        return ChatSegmentDocument.builder()
+                .id(ChatSegmentDocument.segmentId(roomId, first.getId(), last.getId()))
+                .roomId(roomId)
+                .firstMessageId(first.getId())
+                .lastMessageId(last.getId())
+                .firstCreatedAt(first.getCreatedAt())
+                .lastCreatedAt(last.getCreatedAt())
+                .messageCount(messages.size())
+                .payload(chatSegmentCodec.encode(messages.stream().map(ArchivedMessage::from).toList()))
+                .build();
+    }
+}
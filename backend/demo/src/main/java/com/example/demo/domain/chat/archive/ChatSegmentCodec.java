@@ -0,0 +1,44 @@
+package com.example.demo.domain.chat.archive;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// 메시지 묶음 <-> gzip(JSON 배열). 같은 방 대화는 닉네임/메시지 종류가 반복돼 압축이 잘 된다
+@Component
+@RequiredArgsConstructor
+public class ChatSegmentCodec {
+
+    private static final TypeReference<List<ArchivedMessage>> TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    public byte[] encode(List<ArchivedMessage> messages) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, messages);
+        } catch (IOException e) {
+            throw new RuntimeException("채팅 묶음 압축 실패", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public List<ArchivedMessage> decode(byte[] payload) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(in, TYPE);
+        } catch (IOException e) {
+            throw new RuntimeException("채팅 묶음 해제 실패", e);
+        }
+    }
+}
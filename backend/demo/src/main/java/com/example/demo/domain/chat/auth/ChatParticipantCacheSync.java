@@ -0,0 +1,36 @@
+package com.example.demo.domain.chat.auth;
+
+import com.example.demo.domain.chat.event.ChatRoomMembershipChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 참여자 구성이 바뀐 방을 모든 인스턴스의 ChatParticipantProvider 캐시에서 지운다.
+ * 바꾼 인스턴스는 바로 지우고, 나머지는 roomId 메시지를 받아 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatParticipantCacheSync implements MessageListener {
+
+    public static final String CHANNEL = "chat:participants:invalidate";
+
+    private final ChatParticipantProvider chatParticipantProvider;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(ChatRoomMembershipChangedEvent event) {
+        chatParticipantProvider.evict(event.getRoomId());
+        stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(event.getRoomId()));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        chatParticipantProvider.evict(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+}
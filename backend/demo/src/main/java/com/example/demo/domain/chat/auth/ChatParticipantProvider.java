@@ -1,19 +1,31 @@
 package com.example.demo.domain.chat.auth;
 
 import com.example.demo.domain.chat.entity.ChatRoom;
+import com.example.demo.domain.chat.repository.ChatParticipantRepository;
 import com.example.demo.domain.chat.repository.ChatRoomRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class ChatParticipantProvider {
 
+    private static final long CACHE_TTL_MS = 5_000;
+
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatParticipantRepository chatParticipantRepository;
+
+    private final Map<Long, CachedParticipants> cache = new ConcurrentHashMap<>();
+    private final Map<Long, CachedParticipants> withHiddenCache = new ConcurrentHashMap<>();
 
     /**
      * 채팅방에 참여 중인 모든 userId를 반환
@@ -27,4 +39,47 @@ public class ChatParticipantProvider {
                 .map(participant -> participant.getUserId())
                 .collect(Collectors.toSet());
     }
-}
\ No newline at end of file
+
+    /**
+     * 숨기지 않은 참여자 userId - 메시지 전송/입력 중/접속 표시처럼 자주 오는 이벤트용으로 몇 초간 인스턴스 메모리에 캐시
+     * 초대/나가기/숨김/복구가 커밋되면 모든 인스턴스에서 해당 방 항목을 지운다 (ChatParticipantCacheSync).
+     */
+    public Set<Long> getActiveParticipantIdsCached(Long roomId) {
+        return cached(cache, roomId, () -> chatParticipantRepository.findActiveUserIdsByRoomId(roomId));
+    }
+
+    /**
+     * 1:1 방을 숨긴 참여자까지 포함한 userId - 새 메시지 알림 대상용 (숨겨도 상대가 보내면 알림은 받는다)
+     */
+    public Set<Long> getParticipantIdsWithHiddenCached(Long roomId) {
+        return cached(withHiddenCache, roomId, () -> chatParticipantRepository.findUserIdsByRoomId(roomId));
+    }
+
+    // 초대/나가기/숨김/복구 후 - ChatParticipantCacheSync 가 모든 인스턴스에서 부른다
+    public void evict(Long roomId) {
+        cache.remove(roomId);
+        withHiddenCache.remove(roomId);
+    }
+
+    // 만료된 항목은 다음 조회 때 덮어쓸 뿐 지워지지 않으므로, 한 번 건드린 방이 계속 쌓이지 않게 주기적으로 비운다
+    @Scheduled(fixedDelay = 60_000)
+    public void pruneExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(cached -> cached.expiresAt() <= now);
+        withHiddenCache.values().removeIf(cached -> cached.expiresAt() <= now);
+    }
+
+    private Set<Long> cached(Map<Long, CachedParticipants> target, Long roomId, Supplier<List<Long>> loader) {
+        long now = System.currentTimeMillis();
+        CachedParticipants cached = target.get(roomId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.userIds();
+        }
+        Set<Long> userIds = Set.copyOf(loader.get());
+        target.put(roomId, new CachedParticipants(userIds, now + CACHE_TTL_MS));
+        return userIds;
+    }
+
+    private record CachedParticipants(Set<Long> userIds, long expiresAt) {
+    }
+}
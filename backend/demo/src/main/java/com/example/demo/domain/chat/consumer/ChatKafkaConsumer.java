@@ -1,17 +1,23 @@
 package com.example.demo.domain.chat.consumer;
 
+import com.example.demo.domain.chat.producer.ChatKafkaProducer;
 import com.example.demo.domain.chat.service.ChatMessageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+/**
+ * 파티션 수만큼 리스너 스레드를 띄운다. 한 파티션은 한 스레드에만 할당되고
+ * 레코드는 오프셋 순서대로 동기 처리되므로, roomId 키로 발행된 같은 방 메시지는 순서가 유지된다.
+ * 처리 중 다른 스레드로 넘기면 이 보장이 깨지므로 handleIncomingMessage 는 동기로 유지해야 한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class ChatKafkaConsumer {
 
     private final ChatMessageService chatMessageService;
 
-    @KafkaListener(topics = "chat-messages", groupId = "chat-group")
+    @KafkaListener(topics = ChatKafkaProducer.TOPIC, groupId = "chat-group", concurrency = "${chat.kafka.partitions:6}")
     public void consume(String messageJson) {
         chatMessageService.handleIncomingMessage(messageJson);
     }
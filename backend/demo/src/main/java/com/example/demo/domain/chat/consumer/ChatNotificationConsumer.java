@@ -0,0 +1,30 @@
+package com.example.demo.domain.chat.consumer;
+
+import com.example.demo.domain.chat.producer.ChatKafkaProducer;
+import com.example.demo.domain.chat.service.ChatNotificationFanout;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 토픽을 별도 consumer group 으로 한 번 더 읽어 알림을 만든다.
+ * 방 단위 메시지가 곧 알림 이벤트이므로 보내는 쪽은 알림용 레코드를 따로 발행하지 않고,
+ * 알림 저장이 느리거나 실패해도 메시지 저장(chat-group)은 밀리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatNotificationConsumer {
+
+    private final ChatNotificationFanout chatNotificationFanout;
+
+    @KafkaListener(topics = ChatKafkaProducer.TOPIC, groupId = "chat-notification-group", concurrency = "${chat.kafka.partitions:6}")
+    public void consume(String messageJson) {
+        try {
+            chatNotificationFanout.fanOut(messageJson);
+        } catch (RuntimeException e) {
+            log.error("채팅 알림 fan-out 실패", e);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.demo.domain.chat.controller;
 
 import com.example.demo.domain.chat.auth.ChatAuthorizationValidator;
+import com.example.demo.domain.chat.controller.dto.ChatMessagePageResponse;
 import com.example.demo.domain.chat.controller.dto.ChatMessageResponse;
+import com.example.demo.domain.chat.service.ChatHistoryService;
 import com.example.demo.domain.chat.service.ChatMessageService;
 import com.example.demo.global.auth.jwt.JwtAuthentication;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -20,6 +23,9 @@ public class ChatMessageController {
 
     private final ChatMessageService chatMessageService;
     private final ChatAuthorizationValidator authorizationValidator;
+    private final ChatHistoryService chatHistoryService;
+
+    // 최근(hot) 메시지 전체 - 보관된 기록은 /history 로 이어서 조회
     @GetMapping("/{roomId}")
     public ResponseEntity<List<ChatMessageResponse>> getMessages(
             @PathVariable Long roomId,
@@ -29,4 +35,15 @@ public class ChatMessageController {
         List<ChatMessageResponse> messages = chatMessageService.getMessagesVisibleToUser(roomId, auth.getUserId());
         return ResponseEntity.ok(messages);
     }
+
+    // 최신순 페이지 - MySQL 에 없는 오래된 메시지는 보관 묶음에서 이어서 읽는다
+    @GetMapping("/{roomId}/history")
+    public ResponseEntity<ChatMessagePageResponse> getHistory(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + ChatHistoryService.DEFAULT_PAGE_SIZE) int size,
+            JwtAuthentication auth
+    ) {
+        return ResponseEntity.ok(chatHistoryService.getHistory(roomId, auth.getUserId(), cursor, size));
+    }
 }
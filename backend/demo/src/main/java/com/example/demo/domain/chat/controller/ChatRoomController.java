@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -58,6 +59,26 @@ public class ChatRoomController {
         return ResponseEntity.ok(myRooms);
     }
 
+    // 읽음 처리 - 방의 안 읽은 수를 0으로, messageId 가 있으면 읽음 커서도 이동
+    @PostMapping("/{roomId}/read")
+    public ResponseEntity<Void> markRead(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) Long messageId,
+            JwtAuthentication auth
+    ) {
+        chatRoomService.markRead(roomId, auth.getUserId(), messageId);
+        return ResponseEntity.ok().build();
+    }
+
+    // 참여자별 마지막 읽은 메시지 id (userId -> messageId)
+    @GetMapping("/{roomId}/reads")
+    public ResponseEntity<Map<Long, Long>> getReads(
+            @PathVariable Long roomId,
+            JwtAuthentication auth
+    ) {
+        return ResponseEntity.ok(chatRoomService.getReads(roomId, auth.getUserId()));
+    }
+
     @DeleteMapping("/{roomId}/leave")
     public ResponseEntity<Void> leaveRoom(
             @PathVariable Long roomId,
@@ -0,0 +1,16 @@
+package com.example.demo.domain.chat.controller.dto;
+
+import lombok.*;
+
+// 저장하지 않는 방 단위 이벤트 (입력 중, 접속 표시) - Redis Pub/Sub 으로만 전달
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatEphemeralEvent {
+    private String type;    // TYPING / PRESENCE
+    private String roomId;
+    private Long userId;
+    private boolean active;
+}
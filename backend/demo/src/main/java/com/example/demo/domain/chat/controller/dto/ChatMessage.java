@@ -11,10 +11,12 @@ import java.time.LocalDateTime;
 @Builder
 public class ChatMessage {
 
+    private Long messageId;          // 저장 후 채워지는 메시지 ID (읽음 커서 기준)
     private String roomId;           // 채팅방 ID
     private Long senderId;           // 사용자 ID (User.id)
     private String nickname;         // 사용자 닉네임 (User.nickname)
     private String content;          // 메시지 내용
     private String messageType;      // TALK / ENTER / LEAVE
     private LocalDateTime createdAt; //작성 시간
+    private String clientMessageId;  // WebSocket 전송 시 클라이언트가 붙인 id (ACK/중복 표시 정리용)
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.example.demo.domain.chat.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ChatMessagePageResponse {
+    private List<ChatMessageResponse> items; // 최신순
+    private Long nextCursor;   // 다음 요청의 cursor (가장 오래된 메시지 id), 더 없으면 null
+    private boolean hasNext;
+}
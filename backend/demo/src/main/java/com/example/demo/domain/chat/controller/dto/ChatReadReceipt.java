@@ -0,0 +1,20 @@
+package com.example.demo.domain.chat.controller.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+// 방 참여자에게 보내는 "읽음" 상태 - reads 는 userId -> 마지막 읽은 메시지 id
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatReadReceipt {
+
+    public static final String TYPE = "READ_RECEIPT";
+
+    private String type;
+    private String roomId;
+    private Map<Long, Long> reads;
+}
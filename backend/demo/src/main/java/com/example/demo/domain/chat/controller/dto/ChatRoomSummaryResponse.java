@@ -4,10 +4,17 @@ import com.example.demo.domain.chat.entity.ChatRoomType;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Builder
 public class ChatRoomSummaryResponse {
     private Long roomId;
     private String roomName;
     private ChatRoomType type;
+    private Long lastMessageId;
+    private String lastMessage;          // 마지막 메시지 미리보기 (최대 100자)
+    private String lastSenderNickname;
+    private LocalDateTime lastMessageAt;
+    private long unreadCount;
 }
\ No newline at end of file
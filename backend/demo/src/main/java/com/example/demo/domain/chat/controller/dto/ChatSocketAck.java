@@ -0,0 +1,20 @@
+package com.example.demo.domain.chat.controller.dto;
+
+import lombok.*;
+
+// WebSocket SEND 결과 - Kafka 에 기록되면 ok=true
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatSocketAck {
+
+    public static final String TYPE = "ACK";
+
+    private String type;
+    private String roomId;
+    private String clientMessageId;
+    private boolean ok;
+    private String error;
+}
@@ -0,0 +1,24 @@
+package com.example.demo.domain.chat.controller.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 클라이언트 → 서버 WebSocket 메시지
+ * - READ     : messageId 까지 읽음
+ * - TYPING   : 입력 중 여부 (active)
+ * - PRESENCE : 방을 보고 있는지 여부 (active)
+ * - SEND     : 메시지 전송 (content, clientMessageId) - 결과는 ACK 로 응답
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ChatSocketCommand {
+    private String type;
+    private Long roomId;
+    private Long messageId;
+    private Boolean active;
+    private String content;
+    private String clientMessageId;
+}
@@ -9,7 +9,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_message")
+@Table(name = "chat_message", indexes = {
+        @Index(name = "idx_chat_message_room", columnList = "room_id, id"),
+        @Index(name = "idx_chat_message_created", columnList = "created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -10,7 +10,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "chat_room")
+@Table(name = "chat_room", uniqueConstraints = @UniqueConstraint(name = "uk_chat_room_direct_key", columnNames = "direct_key"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,9 +28,17 @@ public class ChatRoom {
     @Enumerated(EnumType.STRING)
     private ChatRoomType type;
 
+    // 1:1 방의 "작은userId:큰userId" - 두 사람당 사용 중인 방은 하나, 둘 다 숨기면 null 로 풀어 새 방을 만들 수 있게 한다
+    @Column(name = "direct_key", length = 64)
+    private String directKey;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
+    public static String directKey(Long userId1, Long userId2) {
+        return Math.min(userId1, userId2) + ":" + Math.max(userId1, userId2);
+    }
+
     @OneToMany(mappedBy = "room", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<ChatRoomParticipant> participants = new ArrayList<>();
@@ -7,7 +7,8 @@ import java.time.LocalDateTime;
 
 
 @Entity
-@Table(name = "chat_room_participant")
+@Table(name = "chat_room_participant",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_room_participant_room_user", columnNames = {"room_id", "user_id"}))
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -31,4 +32,8 @@ public class ChatRoomParticipant {
     @Column(nullable = false)
     private LocalDateTime joinedAt;
 
+    // 마지막으로 읽은 메시지 id - ChatReadReceiptService 가 모아서 주기적으로 반영
+    @Column(name = "last_read_message_id")
+    private Long lastReadMessageId;
+
 }
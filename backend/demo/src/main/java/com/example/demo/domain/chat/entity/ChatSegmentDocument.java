@@ -0,0 +1,37 @@
+package com.example.demo.domain.chat.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된(cold) 채팅 메시지 묶음 - 한 방의 연속된 메시지를 gzip 압축한 JSON 배열로 저장한다.
+ * id 는 "roomId:firstMessageId:lastMessageId" 라 같은 묶음을 다시 보관해도 덮어쓴다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "chat_segment")
+@CompoundIndex(name = "room_last_message", def = "{'roomId': 1, 'lastMessageId': -1}")
+public class ChatSegmentDocument {
+    @Id
+    private String id;
+    private Long roomId;
+    private Long firstMessageId;
+    private Long lastMessageId;
+    private LocalDateTime firstCreatedAt;
+    private LocalDateTime lastCreatedAt;
+    private int messageCount;
+    private byte[] payload;
+
+    public static String segmentId(Long roomId, Long firstMessageId, Long lastMessageId) {
+        return roomId + ":" + firstMessageId + ":" + lastMessageId;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.domain.chat.event;
+
+import com.example.demo.domain.chat.entity.ChatRoomType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 채팅방 생성/초대/나가기/숨김/복구 - 커밋 후 받은편지함 등에 반영
+@Getter
+@AllArgsConstructor
+public class ChatRoomMembershipChangedEvent {
+    private Long roomId;
+    private String roomName;
+    private ChatRoomType type;
+    private List<Long> joinedUserIds;   // 받은편지함에 보여야 하는 사용자
+    private List<Long> leftUserIds;     // 받은편지함에서 빠져야 하는 사용자
+}
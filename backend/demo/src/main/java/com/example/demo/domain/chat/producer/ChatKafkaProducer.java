@@ -4,23 +4,33 @@ import com.example.demo.domain.chat.controller.dto.ChatMessage;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class ChatKafkaProducer {
 
+    public static final String TOPIC = "chat-messages";
+
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
 
-    public void sendChatMessage(ChatMessage message) {
+    // roomId 를 키로 보내야 같은 방 메시지가 한 파티션에 모여 발행 순서대로 소비된다
+    // 전송은 비동기 - 결과를 기다리지 않고 이어서 보내면 프로듀서가 배치로 묶어 보낸다
+    public CompletableFuture<SendResult<String, String>> sendChatMessage(ChatMessage message) {
+        if (message.getRoomId() == null) {
+            throw new IllegalArgumentException("채팅방 ID 가 없는 메시지는 발행할 수 없습니다.");
+        }
         try {
             String json = objectMapper.writeValueAsString(message);
-            kafkaTemplate.send("chat-messages", json);
+            return kafkaTemplate.send(new ProducerRecord<>(TOPIC, message.getRoomId(), json));
         } catch (JsonProcessingException e) {
             throw new RuntimeException("메시지 직렬화 실패", e);
         }
     }
 }
-
@@ -1,5 +1,6 @@
 package com.example.demo.domain.chat.publisher;
 
+import com.example.demo.global.messaging.RoutingEnvelope;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
@@ -10,8 +11,8 @@ public class RedisChatPublisher {
 
     private final StringRedisTemplate redisTemplate;
 
-    public void publish(String channel, String messageJson) {
-        redisTemplate.convertAndSend(channel, messageJson);
-        System.out.println("📡 Redis 발행: " + messageJson);
+    // 구독 쪽이 본문을 파싱하지 않고 route 로 수신자를 고르도록 봉투에 담아 발행
+    public void publish(String channel, String route, String messageJson) {
+        redisTemplate.convertAndSend(channel, RoutingEnvelope.wrap(route, messageJson));
     }
-}
\ No newline at end of file
+}
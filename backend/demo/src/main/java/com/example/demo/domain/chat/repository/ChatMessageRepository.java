@@ -1,10 +1,15 @@
 package com.example.demo.domain.chat.repository;
 
 import com.example.demo.domain.chat.entity.ChatMessageEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessageEntity, Long> {
@@ -16,4 +21,53 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessageEntity,
 """)
     List<ChatMessageEntity> findMessagesAfterJoinedAt(Long roomId, LocalDateTime joinedAt);
 
+    // 받은편지함 재구성용 - 방별 마지막 메시지
+    @Query("""
+    SELECT m FROM ChatMessageEntity m
+    WHERE m.id IN (SELECT MAX(m2.id) FROM ChatMessageEntity m2 WHERE m2.roomId IN :roomIds GROUP BY m2.roomId)
+""")
+    List<ChatMessageEntity> findLatestByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    // 최신순 keyset 페이지 (hot 구간)
+    @Query("""
+    SELECT m FROM ChatMessageEntity m
+    WHERE m.roomId = :roomId AND m.id < :cursor AND m.createdAt > :joinedAt
+    ORDER BY m.id DESC
+""")
+    List<ChatMessageEntity> findHotPage(@Param("roomId") Long roomId,
+                                        @Param("cursor") Long cursor,
+                                        @Param("joinedAt") LocalDateTime joinedAt,
+                                        Pageable pageable);
+
+    // 읽음 커서 상한 - (room_id, id) 인덱스로 끝에서 한 번에 찾는다
+    @Query("SELECT MAX(m.id) FROM ChatMessageEntity m WHERE m.roomId = :roomId")
+    Long findMaxIdByRoomId(@Param("roomId") Long roomId);
+
+    // 보관 대상 경계 - cutoff 이전에 만들어진 메시지 중 가장 큰 id
+    @Query("SELECT MAX(m.id) FROM ChatMessageEntity m WHERE m.createdAt < :cutoff")
+    Long findMaxIdCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // 보관할 방 - 보관 대상이 minCount 개 이상 쌓였거나, 가장 오래된 것이 flushBefore 보다 오래된 방
+    @Query("""
+    SELECT m.roomId FROM ChatMessageEntity m
+    WHERE m.id <= :maxId
+    GROUP BY m.roomId
+    HAVING COUNT(m) >= :minCount OR MIN(m.createdAt) < :flushBefore
+""")
+    List<Long> findArchivableRoomIds(@Param("maxId") Long maxId,
+                                     @Param("minCount") long minCount,
+                                     @Param("flushBefore") LocalDateTime flushBefore,
+                                     Pageable pageable);
+
+    // 한 방의 보관 대상을 오래된 순으로 - (room_id, id) 인덱스
+    @Query("SELECT m FROM ChatMessageEntity m WHERE m.roomId = :roomId AND m.id <= :maxId ORDER BY m.id ASC")
+    List<ChatMessageEntity> findArchiveChunk(@Param("roomId") Long roomId,
+                                             @Param("maxId") Long maxId,
+                                             Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ChatMessageEntity m WHERE m.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
 }
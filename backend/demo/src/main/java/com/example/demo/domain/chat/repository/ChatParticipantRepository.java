@@ -2,6 +2,10 @@ package com.example.demo.domain.chat.repository;
 
 import com.example.demo.domain.chat.entity.ChatRoomParticipant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +14,24 @@ public interface ChatParticipantRepository extends JpaRepository<ChatRoomPartici
     Optional<ChatRoomParticipant> findByRoomIdAndUserId(Long roomId, Long userId);
 
     List<ChatRoomParticipant> findByRoomId(Long id);
+
+    @Query("SELECT p.userId FROM ChatRoomParticipant p WHERE p.room.id = :roomId AND p.deleted = false")
+    List<Long> findActiveUserIdsByRoomId(@Param("roomId") Long roomId);
+
+    // 1:1 방을 숨긴(deleted) 참여자도 포함 - 새 메시지 알림 대상
+    @Query("SELECT p.userId FROM ChatRoomParticipant p WHERE p.room.id = :roomId")
+    List<Long> findUserIdsByRoomId(@Param("roomId") Long roomId);
+
+    @Query("SELECT p.userId AS userId, p.lastReadMessageId AS lastReadMessageId " +
+            "FROM ChatRoomParticipant p " +
+            "WHERE p.room.id = :roomId AND p.deleted = false")
+    List<ReadCursor> findReadCursors(@Param("roomId") Long roomId);
+
+    // 읽음 커서는 앞으로만 움직인다 - 늦게 도착한 작은 값은 무시
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChatRoomParticipant p SET p.lastReadMessageId = :messageId " +
+            "WHERE p.room.id = :roomId AND p.userId = :userId " +
+            "AND (p.lastReadMessageId IS NULL OR p.lastReadMessageId < :messageId)")
+    int advanceLastRead(@Param("roomId") Long roomId, @Param("userId") Long userId, @Param("messageId") Long messageId);
 }
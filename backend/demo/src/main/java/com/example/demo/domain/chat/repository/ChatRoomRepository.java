@@ -1,11 +1,14 @@
 package com.example.demo.domain.chat.repository;
 
 import com.example.demo.domain.chat.entity.ChatRoom;
-import com.example.demo.domain.chat.entity.ChatRoomType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,13 +21,23 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     """)
     List<ChatRoom> findAllVisibleRoomsByUserId(Long userId);
 
-    @Query("""
-    SELECT r FROM ChatRoom r
-    JOIN r.participants p1 ON p1.room = r AND p1.userId = :userId1
-    JOIN r.participants p2 ON p2.room = r AND p2.userId = :userId2
-    WHERE r.type = :type
-""")
-    List<ChatRoom> findAllDirectChatRooms(Long userId1, Long userId2, ChatRoomType type);
+    @Query("SELECT r FROM ChatRoom r LEFT JOIN FETCH r.participants WHERE r.directKey = :directKey")
+    Optional<ChatRoom> findByDirectKey(@Param("directKey") String directKey);
+
+    // 잠금 읽기라 다른 트랜잭션이 방금 커밋한 방도 보인다 (insert-or-get 의 get)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ChatRoom r LEFT JOIN FETCH r.participants WHERE r.directKey = :directKey")
+    Optional<ChatRoom> findByDirectKeyForUpdate(@Param("directKey") String directKey);
+
+    // 같은 키가 이미 있으면 아무것도 하지 않는다. 반환값은 드라이버 설정(useAffectedRows)에 따라 중복이어도 1 이라
+    // 누가 만들었는지 판단하는 데 쓰지 않는다. 다른 트랜잭션이 같은 키로 넣고 아직 커밋 전이면 끝날 때까지 기다린다
+    @Modifying
+    @Query(value = """
+    INSERT INTO chat_room (type, direct_key, created_at)
+    VALUES ('DIRECT', :directKey, :createdAt)
+    ON DUPLICATE KEY UPDATE direct_key = direct_key
+""", nativeQuery = true)
+    void insertDirectRoomIfAbsent(@Param("directKey") String directKey, @Param("createdAt") LocalDateTime createdAt);
 
 
     @Query("SELECT cr FROM ChatRoom cr LEFT JOIN FETCH cr.participants WHERE cr.id = :roomId")
@@ -0,0 +1,13 @@
+package com.example.demo.domain.chat.repository;
+
+import com.example.demo.domain.chat.entity.ChatSegmentDocument;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface ChatSegmentMongoRepository extends MongoRepository<ChatSegmentDocument, String> {
+
+    // cursor 보다 앞선 메시지를 담은 묶음을 최신순으로
+    List<ChatSegmentDocument> findByRoomIdAndFirstMessageIdLessThanOrderByLastMessageIdDesc(Long roomId, Long cursor, Pageable pageable);
+}
@@ -0,0 +1,8 @@
+package com.example.demo.domain.chat.repository;
+
+// 참여자별 마지막 읽은 메시지 id
+public interface ReadCursor {
+    Long getUserId();
+
+    Long getLastReadMessageId();
+}
@@ -0,0 +1,82 @@
+package com.example.demo.domain.chat.service;
+
+import com.example.demo.domain.chat.auth.ChatParticipantProvider;
+import com.example.demo.domain.chat.controller.dto.ChatEphemeralEvent;
+import com.example.demo.global.messaging.RoutingEnvelope;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 입력 중/접속 표시 같은 휘발성 이벤트 전용 경로.
+ * WebSocket 으로 받은 프레임을 Kafka, DB 를 거치지 않고 Redis Pub/Sub(chat-ephemeral-channel) 으로 바로 방송한다.
+ * 보낸 사람별로 초당 maxPerSecond 개까지만 받고 나머지는 버리며, 전달 쪽도 밀려 있는 세션에는 보내지 않는다.
+ * 유실돼도 다음 이벤트가 상태를 덮으므로 재시도하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatEphemeralRelay {
+
+    public static final String CHANNEL = "chat-ephemeral-channel";
+    public static final Set<String> TYPES = Set.of("TYPING", "PRESENCE");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatParticipantProvider chatParticipantProvider;
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.ephemeral.max-per-second:5}")
+    private int maxPerSecond;
+
+    // userId -> 현재 1초 구간의 전송 횟수
+    private final Map<Long, Window> windows = new ConcurrentHashMap<>();
+
+    // 전달했으면 true, 한도 초과/참여자 아님으로 버렸으면 false
+    public boolean relay(Long userId, String type, Long roomId, boolean active) {
+        if (userId == null || roomId == null || !TYPES.contains(type) || !tryAcquire(userId)) {
+            return false;
+        }
+        if (!chatParticipantProvider.getActiveParticipantIdsCached(roomId).contains(userId)) {
+            return false;
+        }
+
+        ChatEphemeralEvent event = ChatEphemeralEvent.builder()
+                .type(type)
+                .roomId(String.valueOf(roomId))
+                .userId(userId)
+                .active(active)
+                .build();
+        try {
+            // route = "roomId:보낸사람" - 구독 쪽은 본문을 열지 않고 보낸 사람을 빼고 전달
+            stringRedisTemplate.convertAndSend(CHANNEL,
+                    RoutingEnvelope.wrap(roomId + ":" + userId, objectMapper.writeValueAsString(event)));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("휘발성 이벤트 직렬화 실패", e);
+        }
+        return true;
+    }
+
+    // 마지막 세션이 끊기면 호출
+    public void forget(Long userId) {
+        windows.remove(userId);
+    }
+
+    private boolean tryAcquire(Long userId) {
+        return tryAcquire(userId, System.currentTimeMillis() / 1000);
+    }
+
+    boolean tryAcquire(Long userId, long second) {
+        Window window = windows.compute(userId, (k, w) ->
+                w == null || w.second() != second ? new Window(second, 1) : new Window(second, w.count() + 1));
+        return window.count() <= maxPerSecond;
+    }
+
+    private record Window(long second, int count) {
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.demo.domain.chat.service;
+
+import com.example.demo.domain.chat.archive.ArchivedMessage;
+import com.example.demo.domain.chat.archive.ChatSegmentCodec;
+import com.example.demo.domain.chat.controller.dto.ChatMessagePageResponse;
+import com.example.demo.domain.chat.controller.dto.ChatMessageResponse;
+import com.example.demo.domain.chat.entity.ChatMessageEntity;
+import com.example.demo.domain.chat.entity.ChatRoomParticipant;
+import com.example.demo.domain.chat.entity.ChatSegmentDocument;
+import com.example.demo.domain.chat.repository.ChatMessageRepository;
+import com.example.demo.domain.chat.repository.ChatParticipantRepository;
+import com.example.demo.domain.chat.repository.ChatSegmentMongoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 채팅 기록 최신순 페이지.
+ * MySQL(hot) 에서 먼저 읽고, 모자라면 같은 cursor 로 MongoDB 보관 묶음(cold)을 최신순으로 풀어 이어 붙인다.
+ * 묶음은 hot 에서 지워진 메시지만 담으므로 겹치지 않지만, 보관 도중 멈춘 경우를 위해 id 로 한 번 더 거른다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatHistoryService {
+
+    public static final int DEFAULT_PAGE_SIZE = 30;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int SEGMENTS_PER_FETCH = 4;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final ChatSegmentMongoRepository chatSegmentMongoRepository;
+    private final ChatSegmentCodec chatSegmentCodec;
+
+    @Transactional(readOnly = true)
+    public ChatMessagePageResponse getHistory(Long roomId, Long userId, Long cursor, int size) {
+        ChatRoomParticipant participant = chatParticipantRepository
+                .findByRoomIdAndUserId(roomId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("채팅방에 참여하고 있지 않습니다."));
+        LocalDateTime joinedAt = participant.getJoinedAt();
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long before = cursor != null ? cursor : Long.MAX_VALUE;
+
+        List<ChatMessageResponse> items = new ArrayList<>(pageSize + 1);
+        Set<Long> seen = new HashSet<>();
+        for (ChatMessageEntity message : chatMessageRepository.findHotPage(roomId, before, joinedAt, PageRequest.of(0, pageSize + 1))) {
+            seen.add(message.getId());
+            items.add(toResponse(message));
+        }
+
+        if (items.size() <= pageSize) {
+            long coldBefore = items.isEmpty() ? before : items.get(items.size() - 1).getMessageId();
+            appendCold(roomId, coldBefore, joinedAt, pageSize + 1, items, seen);
+        }
+
+        boolean hasNext = items.size() > pageSize;
+        List<ChatMessageResponse> page = hasNext ? items.subList(0, pageSize) : items;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getMessageId() : null;
+        return new ChatMessagePageResponse(List.copyOf(page), nextCursor, hasNext);
+    }
+
+    private void appendCold(Long roomId, long before, LocalDateTime joinedAt, int limit,
+                            List<ChatMessageResponse> items, Set<Long> seen) {
+        long segmentCursor = before;
+        while (items.size() < limit) {
+            List<ChatSegmentDocument> segments = chatSegmentMongoRepository
+                    .findByRoomIdAndFirstMessageIdLessThanOrderByLastMessageIdDesc(roomId, segmentCursor, PageRequest.of(0, SEGMENTS_PER_FETCH));
+            if (segments.isEmpty()) {
+                return;
+            }
+            for (ChatSegmentDocument segment : segments) {
+                // 참여 전 메시지만 남은 묶음부터는 더 볼 필요가 없다
+                if (segment.getLastCreatedAt() != null && !segment.getLastCreatedAt().isAfter(joinedAt)) {
+                    return;
+                }
+                List<ArchivedMessage> messages = new ArrayList<>(chatSegmentCodec.decode(segment.getPayload()));
+                messages.sort(Comparator.comparing(ArchivedMessage::id).reversed());
+                for (ArchivedMessage message : messages) {
+                    if (message.id() >= before || !message.createdAt().isAfter(joinedAt) || !seen.add(message.id())) {
+                        continue;
+                    }
+                    items.add(toResponse(message));
+                    if (items.size() >= limit) {
+                        return;
+                    }
+                }
+                segmentCursor = Math.min(segmentCursor, segment.getFirstMessageId());
+            }
+        }
+    }
+
+    private ChatMessageResponse toResponse(ChatMessageEntity entity) {
+        return ChatMessageResponse.builder()
+                .messageId(entity.getId())
+                .senderId(entity.getSenderId())
+                .nickname(entity.getNickname())
+                .content(entity.getContent())
+                .messageType(entity.getMessageType())
+                .createdAt(entity.getCreatedAt())
+                .build();
+    }
+
+    private ChatMessageResponse toResponse(ArchivedMessage message) {
+        return ChatMessageResponse.builder()
+                .messageId(message.id())
+                .senderId(message.senderId())
+                .nickname(message.nickname())
+                .content(message.content())
+                .messageType(message.messageType())
+                .createdAt(message.createdAt())
+                .build();
+    }
+}
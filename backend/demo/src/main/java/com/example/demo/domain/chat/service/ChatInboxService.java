@@ -0,0 +1,213 @@
+package com.example.demo.domain.chat.service;
+
+import com.example.demo.domain.chat.controller.dto.ChatRoomSummaryResponse;
+import com.example.demo.domain.chat.entity.ChatMessageEntity;
+import com.example.demo.domain.chat.entity.ChatRoom;
+import com.example.demo.domain.chat.entity.ChatRoomType;
+import com.example.demo.domain.chat.event.ChatRoomMembershipChangedEvent;
+import com.example.demo.domain.chat.repository.ChatMessageRepository;
+import com.example.demo.domain.chat.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 받은편지함 (Redis).
+ * - chat:inbox:{userId}        : 참여 중인 방 sorted set (score = 마지막 활동 시각 ms)
+ * - chat:room:summary:{roomId} : 방 이름/종류 + 마지막 메시지 스냅샷 hash
+ * - chat:unread:{userId}       : 방별 안 읽은 메시지 수 hash
+ * 메시지는 Kafka consumer 가 저장 직후 반영하고, 목록은 ZREVRANGE + (HGETALL 여러 개 / HMGET) 파이프라인 한 번으로 만든다.
+ * 받은편지함에 완료 표시(_complete)가 없는 사용자는 처음 조회할 때 MySQL 에서 한 번 채운다.
+ * 메시지/입장 이벤트가 먼저 만든 한두 칸짜리 받은편지함도 표시가 없으므로 다시 채워진다.
+ * 목록은 최근 활동 순 MAX_ROOMS 개까지만 돌려준다 (그보다 오래된 방은 새 메시지가 오면 다시 위로 올라온다).
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatInboxService {
+
+    private static final String INBOX_PREFIX = "chat:inbox:";
+    private static final String SUMMARY_PREFIX = "chat:room:summary:";
+    private static final String UNREAD_PREFIX = "chat:unread:";
+    // 완료 표시 멤버 - score 0 이라 역순 조회에서는 항상 맨 뒤에 온다
+    private static final String COMPLETE = "_complete";
+    private static final int MAX_ROOMS = 200; // 목록 상한, 페이지 없이 최근 200개 방만 보여준다
+    private static final int PREVIEW_LENGTH = 100;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageRepository chatMessageRepository;
+
+    // consumer 에서 메시지 저장 직후 호출 - 보낸 사람 외 참여자의 안 읽은 수를 올리고 방을 맨 위로
+    public void onMessage(ChatMessageEntity message, Collection<Long> participantIds) {
+        String roomId = String.valueOf(message.getRoomId());
+        long activityAt = toEpochMillis(message.getCreatedAt());
+        Map<String, String> last = lastMessageFields(message);
+
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForHash().putAll(SUMMARY_PREFIX + roomId, last);
+                for (Long userId : participantIds) {
+                    operations.opsForZSet().add(INBOX_PREFIX + userId, roomId, activityAt);
+                    if (!userId.equals(message.getSenderId())) {
+                        operations.opsForHash().increment(UNREAD_PREFIX + userId, roomId, 1);
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    // 읽음 처리 - 방에 들어오거나 마지막 메시지까지 본 경우
+    public void markRead(Long roomId, Long userId) {
+        stringRedisTemplate.opsForHash().delete(UNREAD_PREFIX + userId, String.valueOf(roomId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(ChatRoomMembershipChangedEvent event) {
+        String roomId = String.valueOf(event.getRoomId());
+        long now = System.currentTimeMillis();
+
+        Map<String, String> meta = new HashMap<>();
+        meta.put("type", event.getType().name());
+        if (event.getRoomName() != null) {
+            meta.put("roomName", event.getRoomName());
+        }
+        stringRedisTemplate.opsForHash().putAll(SUMMARY_PREFIX + roomId, meta);
+
+        for (Long userId : event.getJoinedUserIds()) {
+            // 이미 있는 방(숨김 복구 등)은 기존 활동 시각을 유지
+            stringRedisTemplate.opsForZSet().addIfAbsent(INBOX_PREFIX + userId, roomId, now);
+        }
+        for (Long userId : event.getLeftUserIds()) {
+            stringRedisTemplate.opsForZSet().remove(INBOX_PREFIX + userId, roomId);
+            stringRedisTemplate.opsForHash().delete(UNREAD_PREFIX + userId, roomId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public List<ChatRoomSummaryResponse> getInbox(Long userId) {
+        String inboxKey = INBOX_PREFIX + userId;
+        List<Object> loaded = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForZSet().score(inboxKey, COMPLETE);
+                operations.opsForZSet().reverseRangeWithScores(inboxKey, 0, MAX_ROOMS);
+                return null;
+            }
+        });
+        Set<ZSetOperations.TypedTuple<String>> rooms = loaded.get(0) != null
+                ? (Set<ZSetOperations.TypedTuple<String>>) loaded.get(1)
+                : rebuild(userId);
+
+        List<String> roomIds = rooms.stream()
+                .map(ZSetOperations.TypedTuple::getValue)
+                .filter(roomId -> !COMPLETE.equals(roomId))
+                .limit(MAX_ROOMS)
+                .toList();
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (String roomId : roomIds) {
+                    operations.opsForHash().entries(SUMMARY_PREFIX + roomId);
+                }
+                operations.opsForHash().multiGet(UNREAD_PREFIX + userId, new ArrayList<>(roomIds));
+                return null;
+            }
+        });
+
+        List<Object> unread = (List<Object>) results.get(roomIds.size());
+        List<ChatRoomSummaryResponse> inbox = new ArrayList<>(roomIds.size());
+        for (int i = 0; i < roomIds.size(); i++) {
+            Map<Object, Object> summary = (Map<Object, Object>) results.get(i);
+            Object count = unread != null ? unread.get(i) : null;
+            inbox.add(toResponse(Long.valueOf(roomIds.get(i)), summary,
+                    count != null ? Long.parseLong(count.toString()) : 0L));
+        }
+        return inbox;
+    }
+
+    // 완료 표시가 없으면 참여 중인 방과 방별 마지막 메시지를 DB 에서 읽어 채운다
+    // 이미 들어 있던 방(이벤트로 먼저 생긴 칸)과 안 읽은 수는 그대로 두고 합친다. 방이 없어도 표시는 남겨 매번 DB 를 읽지 않게 한다
+    private Set<ZSetOperations.TypedTuple<String>> rebuild(Long userId) {
+        String inboxKey = INBOX_PREFIX + userId;
+        List<ChatRoom> rooms = chatRoomRepository.findAllVisibleRoomsByUserId(userId);
+        if (rooms.isEmpty()) {
+            stringRedisTemplate.opsForZSet().add(inboxKey, COMPLETE, 0);
+            return stringRedisTemplate.opsForZSet().reverseRangeWithScores(inboxKey, 0, MAX_ROOMS);
+        }
+        List<Long> roomIds = rooms.stream().map(ChatRoom::getId).toList();
+        Map<Long, ChatMessageEntity> lastMessages = chatMessageRepository.findLatestByRoomIds(roomIds).stream()
+                .collect(Collectors.toMap(ChatMessageEntity::getRoomId, Function.identity()));
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (ChatRoom room : rooms) {
+            ChatMessageEntity last = lastMessages.get(room.getId());
+            Map<String, String> summary = new HashMap<>(last != null ? lastMessageFields(last) : Map.of());
+            summary.put("type", room.getType().name());
+            if (room.getRoomName() != null) {
+                summary.put("roomName", room.getRoomName());
+            }
+            stringRedisTemplate.opsForHash().putAll(SUMMARY_PREFIX + room.getId(), summary);
+
+            long score = toEpochMillis(last != null ? last.getCreatedAt() : room.getCreatedAt());
+            tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(room.getId()), (double) score));
+        }
+        tuples.add(ZSetOperations.TypedTuple.of(COMPLETE, 0d));
+        stringRedisTemplate.opsForZSet().add(inboxKey, tuples);
+        return stringRedisTemplate.opsForZSet().reverseRangeWithScores(inboxKey, 0, MAX_ROOMS);
+    }
+
+    private Map<String, String> lastMessageFields(ChatMessageEntity message) {
+        String content = message.getContent();
+        Map<String, String> fields = new HashMap<>();
+        fields.put("lastMessageId", String.valueOf(message.getId()));
+        fields.put("lastSenderId", String.valueOf(message.getSenderId()));
+        fields.put("lastNickname", message.getNickname());
+        fields.put("lastContent", content.length() > PREVIEW_LENGTH ? content.substring(0, PREVIEW_LENGTH) : content);
+        fields.put("lastAt", String.valueOf(message.getCreatedAt()));
+        return fields;
+    }
+
+    private ChatRoomSummaryResponse toResponse(Long roomId, Map<Object, Object> summary, long unreadCount) {
+        Object type = summary.get("type");
+        Object lastAt = summary.get("lastAt");
+        Object lastMessageId = summary.get("lastMessageId");
+        return ChatRoomSummaryResponse.builder()
+                .roomId(roomId)
+                .roomName((String) summary.get("roomName"))
+                .type(type != null ? ChatRoomType.valueOf(type.toString()) : null)
+                .lastMessageId(lastMessageId != null ? Long.valueOf(lastMessageId.toString()) : null)
+                .lastMessage((String) summary.get("lastContent"))
+                .lastSenderNickname((String) summary.get("lastNickname"))
+                .lastMessageAt(lastAt != null && !"null".equals(lastAt) ? LocalDateTime.parse(lastAt.toString()) : null)
+                .unreadCount(unreadCount)
+                .build();
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        if (time == null) {
+            return System.currentTimeMillis();
+        }
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,21 +1,17 @@
 package com.example.demo.domain.chat.service;
 
+import com.example.demo.domain.chat.auth.ChatParticipantProvider;
 import com.example.demo.domain.chat.controller.dto.ChatMessage;
 import com.example.demo.domain.chat.controller.dto.ChatMessageResponse;
 import com.example.demo.domain.chat.controller.dto.SendChatMessageRequest;
 import com.example.demo.domain.chat.entity.ChatMessageEntity;
-import com.example.demo.domain.chat.entity.ChatRoom;
 import com.example.demo.domain.chat.entity.ChatRoomParticipant;
 import com.example.demo.domain.chat.producer.ChatKafkaProducer;
 import com.example.demo.domain.chat.publisher.RedisChatPublisher;
 import com.example.demo.domain.chat.repository.ChatMessageRepository;
 import com.example.demo.domain.chat.repository.ChatParticipantRepository;
-import com.example.demo.domain.chat.repository.ChatRoomRepository;
 import com.example.demo.domain.member.user.entity.User;
 import com.example.demo.domain.member.user.repository.UserRepository;
-import com.example.demo.domain.notice.message.NotificationMessage;
-import com.example.demo.domain.notice.message.NotificationType;
-import com.example.demo.domain.notice.producer.NotificationProducer;
 import com.example.demo.global.auth.jwt.JwtAuthentication;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -23,9 +19,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -36,14 +32,17 @@ public class ChatMessageService {
     private final ObjectMapper objectMapper;
     private final ChatParticipantRepository chatParticipantRepository;
     private final ChatKafkaProducer chatKafkaProducer;
-    private final NotificationProducer notificationProducer;
     private final UserRepository userRepository;
-    private final ChatRoomRepository chatRoomRepository;
+    private final ChatInboxService chatInboxService;
+    private final ChatParticipantProvider chatParticipantProvider;
 
     @Transactional
     public void chatToMessage(SendChatMessageRequest message, JwtAuthentication auth) {
 
         User user = userRepository.findById(auth.getUserId()).orElseThrow(() -> new RuntimeException("해당 유저를 찾을 수 없습니다."));
+        if (!chatParticipantProvider.getActiveParticipantIdsCached(message.getRoomId()).contains(user.getId())) {
+            throw new SecurityException("이 채팅방에 접근할 수 없습니다.");
+        }
 
         ChatMessage kafkaMessage = ChatMessage.builder()
                 .roomId(String.valueOf(message.getRoomId()))
@@ -54,40 +53,34 @@ public class ChatMessageService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-
-        sendNotification(kafkaMessage, user, getParticipantId(message.getRoomId(), user.getId()));
+        // 알림은 ChatNotificationConsumer 가 같은 메시지를 읽어 방 참여자에게 한 번에 만든다
         chatKafkaProducer.sendChatMessage(kafkaMessage);
     }
 
-    public Long getParticipantId(Long roomId, Long senderId) {
-        ChatRoom room = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다."));
-
-        List<ChatRoomParticipant> participants = chatParticipantRepository.findByRoomId(room.getId());
-
-        return participants.stream()
-                .map(ChatRoomParticipant::getUserId)
-                .filter(id -> !id.equals(senderId))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("DM 대상 유저를 찾을 수 없습니다."));
-    }
-
-    public void sendNotification(ChatMessage message, User user, Long receiverId) {
-        Map<String, Object> data = new HashMap<>();
-        data.put("roomId", message.getRoomId());
-        data.put("content", message.getContent());
-
-
+    /**
+     * WebSocket 으로 받은 메시지 전송.
+     * 보낸 사람/닉네임은 핸드셰이크 때 인증된 세션 값을 그대로 쓰고, 참여 여부는 캐시된 참여자 목록으로 확인해
+     * 메시지마다 DB 를 읽지 않는다. Kafka 전송 결과를 기다리지 않고 future 로 돌려주며, 완료되면 ACK 를 보낸다.
+     */
+    public CompletableFuture<?> sendFromSocket(Long senderId, String nickname, Long roomId, String content, String clientMessageId) {
+        if (roomId == null || content == null || content.isBlank()) {
+            throw new IllegalArgumentException("채팅방과 메시지 내용을 입력해주세요.");
+        }
+        Set<Long> participantIds = chatParticipantProvider.getActiveParticipantIdsCached(roomId);
+        if (!participantIds.contains(senderId)) {
+            throw new SecurityException("이 채팅방에 접근할 수 없습니다.");
+        }
 
-        notificationProducer.sendNotification(
-                new NotificationMessage(
-                        NotificationType.DM,
-                        receiverId,
-                        user.getId(),
-                        user.getNickname(),
-                        data
-                )
-        );
+        ChatMessage kafkaMessage = ChatMessage.builder()
+                .roomId(String.valueOf(roomId))
+                .senderId(senderId)
+                .nickname(nickname)
+                .content(content)
+                .messageType("TALK")
+                .createdAt(LocalDateTime.now())
+                .clientMessageId(clientMessageId)
+                .build();
+        return chatKafkaProducer.sendChatMessage(kafkaMessage);
     }
 
     @Transactional
@@ -97,7 +90,16 @@ public class ChatMessageService {
             ChatMessageEntity entity = dto2Entity(dto);
             chatMessageRepository.save(entity);
 
-            redisChatPublisher.publish("chat-channel", messageJson);
+            List<Long> participantIds = chatParticipantRepository.findByRoomId(entity.getRoomId()).stream()
+                    .filter(p -> !p.isDeleted())
+                    .map(ChatRoomParticipant::getUserId)
+                    .toList();
+            chatInboxService.onMessage(entity, participantIds);
+
+            // 클라이언트가 읽음 커서로 쓸 수 있도록 저장된 id 를 담아 전달
+            dto.setMessageId(entity.getId());
+            // 여기서 한 번 직렬화한 JSON 을 구독자/소켓까지 그대로 쓴다 (roomId 는 봉투로)
+            redisChatPublisher.publish("chat-channel", dto.getRoomId(), objectMapper.writeValueAsString(dto));
         } catch (Exception e) {
             throw new RuntimeException("메시지 처리 실패: " + e.getMessage(), e);
         }
@@ -0,0 +1,80 @@
+package com.example.demo.domain.chat.service;
+
+import com.example.demo.domain.chat.auth.ChatParticipantProvider;
+import com.example.demo.domain.chat.controller.dto.ChatMessage;
+import com.example.demo.domain.notice.message.NotificationMessage;
+import com.example.demo.domain.notice.message.NotificationType;
+import com.example.demo.domain.notice.publisher.RedisNotificationPublisher;
+import com.example.demo.domain.notice.repository.NotificationBatchRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 채팅 메시지 알림 fan-out.
+ * 수신자마다 Kafka 레코드를 만들지 않고, 방 단위 메시지 하나를 받아 여기서 수신자로 펼친다.
+ * - 대상 : 캐시된 참여자(1:1 방을 숨긴 사람 포함) - 보낸 사람 - 지금 방을 보고 있는 사용자(ChatRoomViewers)
+ * - 저장 : 대상 전원의 알림을 multi-row INSERT 한 번으로 저장
+ * - 전달 : Redis 발행 한 번으로 각 인스턴스가 연결된 알림 소켓에만 전달
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatNotificationFanout {
+
+    private final ObjectMapper objectMapper;
+    private final ChatParticipantProvider chatParticipantProvider;
+    private final ChatRoomViewers chatRoomViewers;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final RedisNotificationPublisher redisNotificationPublisher;
+
+    // 알림을 남긴 수신자 수
+    public int fanOut(String messageJson) {
+        try {
+            ChatMessage message = objectMapper.readValue(messageJson, ChatMessage.class);
+            if (!"TALK".equals(message.getMessageType()) || message.getRoomId() == null) {
+                return 0;
+            }
+            Long roomId = Long.parseLong(message.getRoomId());
+            List<Long> receiverIds = receivers(roomId, message.getSenderId());
+            if (receiverIds.isEmpty()) {
+                return 0;
+            }
+
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("roomId", message.getRoomId());
+            data.put("content", message.getContent());
+
+            notificationBatchRepository.insertForReceivers(receiverIds, NotificationType.DM,
+                    message.getSenderId(), message.getNickname(), objectMapper.writeValueAsString(data));
+
+            // 수신자 공통 본문 - receiverId 는 비워 두고 수신자 목록은 봉투로 보낸다
+            NotificationMessage live = new NotificationMessage(NotificationType.DM, null,
+                    message.getSenderId(), message.getNickname(), data);
+            redisNotificationPublisher.publishBatch(receiverIds, objectMapper.writeValueAsString(live));
+            return receiverIds.size();
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("채팅 알림 처리 실패: " + e.getMessage(), e);
+        }
+    }
+
+    List<Long> receivers(Long roomId, Long senderId) {
+        Set<Long> members = chatParticipantProvider.getParticipantIdsWithHiddenCached(roomId);
+        if (members.size() <= 1) {
+            return List.of();
+        }
+        Set<Long> viewers = chatRoomViewers.viewerIds(roomId);
+        return members.stream()
+                .filter(id -> !id.equals(senderId))
+                .filter(id -> !viewers.contains(id))
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.demo.domain.chat.service;
+
+import com.example.demo.domain.chat.controller.dto.ChatReadReceipt;
+import com.example.demo.domain.chat.event.ChatRoomMembershipChangedEvent;
+import com.example.demo.domain.chat.publisher.RedisChatPublisher;
+import com.example.demo.domain.chat.repository.ChatMessageRepository;
+import com.example.demo.domain.chat.repository.ChatParticipantRepository;
+import com.example.demo.domain.chat.repository.ReadCursor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅 읽음 커서.
+ * WebSocket 으로 들어온 READ 는 인스턴스 메모리에서 (방, 사용자)별 최댓값만 남기고,
+ * 1초마다 방 단위로 Redis hash(chat:read:{roomId}) 에 올린 뒤 "읽음" 상태를 방에 한 번 방송한다.
+ * 바뀐 (방, 사용자)는 chat:read:dirty 에 모아 주기적으로 chat_room_participant.last_read_message_id 에 반영하므로
+ * DB 쓰기는 메시지 수가 아니라 주기당 읽은 참여자 수에 비례한다.
+ * 커서는 앞으로만 움직이므로 반영 전에 방의 마지막 메시지 id 로 잘라, 없는 id 로 커서가 고정되지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatReadReceiptService {
+
+    public static final String CHANNEL = "chat-read-channel";
+
+    private static final String READ_PREFIX = "chat:read:";
+    private static final String DIRTY_KEY = "chat:read:dirty";
+    private static final String LOCK_KEY = "lock:chat:read:flush";
+    private static final int FLUSH_BATCH = 500;
+
+    // 현재 값보다 클 때만 갱신
+    private static final RedisScript<Long> ADVANCE_SCRIPT = new DefaultRedisScript<>(
+            "local cur = redis.call('HGET', KEYS[1], ARGV[1]) " +
+                    "if (not cur) or tonumber(cur) < tonumber(ARGV[2]) then " +
+                    "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) return 1 end " +
+                    "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedissonClient redissonClient;
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatInboxService chatInboxService;
+    private final RedisChatPublisher redisChatPublisher;
+    private final ObjectMapper objectMapper;
+
+    // roomId -> (userId -> 마지막 읽은 메시지 id), 방송 주기마다 비운다
+    private final Map<Long, Map<Long, Long>> pending = new ConcurrentHashMap<>();
+
+    public void record(Long roomId, Long userId, Long messageId) {
+        if (roomId == null || userId == null || messageId == null || messageId <= 0) {
+            return;
+        }
+        pending.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>())
+                .merge(userId, messageId, Math::max);
+    }
+
+    // 방 참여자의 현재 읽음 커서 (Redis 에 없으면 DB 값)
+    public Map<Long, Long> getReads(Long roomId) {
+        String key = READ_PREFIX + roomId;
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            seed(roomId, chatParticipantRepository.findReadCursors(roomId));
+        }
+        return toReads(stringRedisTemplate.opsForHash().entries(key));
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read.broadcast-interval-ms:1000}")
+    public void broadcast() {
+        for (Long roomId : new ArrayList<>(pending.keySet())) {
+            Map<Long, Long> updates = pending.remove(roomId);
+            if (updates == null || updates.isEmpty()) {
+                continue;
+            }
+            try {
+                apply(roomId, updates);
+            } catch (RuntimeException e) {
+                log.warn("읽음 커서 반영 실패: roomId={}", roomId, e);
+            }
+        }
+    }
+
+    private void apply(Long roomId, Map<Long, Long> updates) {
+        List<ReadCursor> cursors = chatParticipantRepository.findReadCursors(roomId);
+        Set<Long> participants = new HashSet<>();
+        cursors.forEach(c -> participants.add(c.getUserId()));
+
+        Long latestMessageId = chatMessageRepository.findMaxIdByRoomId(roomId);
+        if (latestMessageId == null) {
+            return; // 메시지가 없거나 모두 보관된 방 - 옮길 커서가 없다
+        }
+
+        String key = READ_PREFIX + roomId;
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            seed(roomId, cursors);
+        }
+
+        boolean changed = false;
+        for (Map.Entry<Long, Long> update : updates.entrySet()) {
+            Long userId = update.getKey();
+            if (!participants.contains(userId)) {
+                continue; // 참여자가 아니면 무시
+            }
+            long messageId = Math.min(update.getValue(), latestMessageId);
+            Long advanced = stringRedisTemplate.execute(ADVANCE_SCRIPT, List.of(key),
+                    String.valueOf(userId), String.valueOf(messageId));
+            if (advanced != null && advanced == 1L) {
+                stringRedisTemplate.opsForSet().add(DIRTY_KEY, roomId + ":" + userId);
+                chatInboxService.markRead(roomId, userId);
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return;
+        }
+
+        ChatReadReceipt receipt = ChatReadReceipt.builder()
+                .type(ChatReadReceipt.TYPE)
+                .roomId(String.valueOf(roomId))
+                .reads(toReads(stringRedisTemplate.opsForHash().entries(key)))
+                .build();
+        try {
+            redisChatPublisher.publish(CHANNEL, String.valueOf(roomId), objectMapper.writeValueAsString(receipt));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("읽음 상태 직렬화 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read.flush-interval-ms:10000}")
+    public void flush() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            List<String> batch;
+            while (!(batch = pop()).isEmpty()) {
+                flushBatch(batch);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(ChatRoomMembershipChangedEvent event) {
+        if (event.getLeftUserIds().isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForHash().delete(READ_PREFIX + event.getRoomId(),
+                event.getLeftUserIds().stream().map(String::valueOf).toArray());
+    }
+
+    private List<String> pop() {
+        List<String> members = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, FLUSH_BATCH);
+        return members != null ? members : List.of();
+    }
+
+    private void flushBatch(List<String> batch) {
+        List<Object> values = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (String member : batch) {
+                    String[] parts = member.split(":");
+                    operations.opsForHash().get(READ_PREFIX + parts[0], parts[1]);
+                }
+                return null;
+            }
+        });
+        for (int i = 0; i < batch.size(); i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                continue; // 나간 참여자
+            }
+            String[] parts = batch.get(i).split(":");
+            try {
+                chatParticipantRepository.advanceLastRead(Long.valueOf(parts[0]), Long.valueOf(parts[1]), Long.valueOf(value.toString()));
+            } catch (RuntimeException e) {
+                // 남은 항목은 다시 dirty set 에 넣고 다음 실행에서 이어서 반영
+                stringRedisTemplate.opsForSet().add(DIRTY_KEY, batch.subList(i, batch.size()).toArray(String[]::new));
+                log.warn("읽음 커서 DB 반영 실패 - 다음 실행에서 재시도: {}", batch.get(i), e);
+                return;
+            }
+        }
+    }
+
+    // Redis 에 아직 없는 방은 DB 커서로 채운다 - HSETNX 라 더 최신 값을 덮지 않는다
+    private void seed(Long roomId, List<ReadCursor> cursors) {
+        String key = READ_PREFIX + roomId;
+        for (ReadCursor cursor : cursors) {
+            if (cursor.getLastReadMessageId() != null) {
+                stringRedisTemplate.opsForHash().putIfAbsent(key,
+                        String.valueOf(cursor.getUserId()), String.valueOf(cursor.getLastReadMessageId()));
+            }
+        }
+    }
+
+    private static Map<Long, Long> toReads(Map<Object, Object> entries) {
+        Map<Long, Long> reads = new HashMap<>();
+        entries.forEach((userId, messageId) ->
+                reads.put(Long.valueOf(userId.toString()), Long.valueOf(messageId.toString())));
+        return reads;
+    }
+}
@@ -6,8 +6,10 @@ import com.example.demo.domain.chat.controller.dto.CreateGroupRoomRequest;
 import com.example.demo.domain.chat.entity.ChatRoom;
 import com.example.demo.domain.chat.entity.ChatRoomParticipant;
 import com.example.demo.domain.chat.entity.ChatRoomType;
+import com.example.demo.domain.chat.event.ChatRoomMembershipChangedEvent;
 import com.example.demo.domain.chat.repository.ChatRoomRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,48 +22,50 @@ public class ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatAuthorizationValidator authorizationValidator;
-
+    private final ChatInboxService chatInboxService;
+    private final ChatReadReceiptService chatReadReceiptService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 1:1 방 조회/생성. direct_key 유니크 인덱스 한 번 읽기로 찾고, 없으면 INSERT ... ON DUPLICATE KEY 로 만든다.
+     * 두 사람이 동시에 열어도 방 행은 하나만 생기고, 참여자는 잠금 읽기로 방을 받은 뒤 비어 있을 때만 넣는다.
+     */
     @Transactional
     public ChatRoom findOrCreateDirectRoom(Long userId1, Long userId2, Long requesterId) {
-        Long[] sorted = sortUserIds(userId1, userId2);
-        Long id1 = sorted[0];
-        Long id2 = sorted[1];
-
-        // 숨김 여부 상관없이 모든 방을 가져옴
-        List<ChatRoom> rooms = chatRoomRepository.findAllDirectChatRooms(id1, id2, ChatRoomType.DIRECT);
-
-        for (ChatRoom room : rooms) {
-            boolean allDeleted = room.getParticipants().stream().allMatch(ChatRoomParticipant::isDeleted);
-
-            if (allDeleted) continue; // ❌ 모두 숨김 상태면 건너뜀
-
-            // ✅ 요청자 복구만 수행
-            room.getParticipants().stream()
-                    .filter(p -> p.getUserId().equals(requesterId) && p.isDeleted())
-                    .forEach(p -> {
-                        p.setDeleted(false);
-                        p.setJoinedAt(LocalDateTime.now());
-                    });
-
-            return room;
+        String directKey = ChatRoom.directKey(userId1, userId2);
+
+        ChatRoom room = chatRoomRepository.findByDirectKey(directKey)
+                .orElseGet(() -> createDirectRoom(directKey, userId1, userId2));
+
+        // ✅ 요청자 복구만 수행
+        boolean restored = false;
+        for (ChatRoomParticipant p : room.getParticipants()) {
+            if (p.getUserId().equals(requesterId) && p.isDeleted()) {
+                p.setDeleted(false);
+                p.setJoinedAt(LocalDateTime.now());
+                restored = true;
+            }
         }
-
-        // ✅ 재사용 가능한 방이 없다면 새로 생성
-        return createDirectRoom(id1, id2);
+        if (restored) {
+            publishMembershipChanged(room, List.of(requesterId), List.of());
+        }
+        return room;
     }
 
-    private Long[] sortUserIds(Long a, Long b) {
-        return a < b ? new Long[]{a, b} : new Long[]{b, a};
-    }
+    // 영향받은 행 수로는 누가 만들었는지 알 수 없다 (Connector/J 기본값 useAffectedRows=false 면 중복이어도 1).
+    // 잠금 읽기는 먼저 잡은 트랜잭션이 커밋할 때까지 기다리므로, 참여자가 이미 있으면 다른 요청이 만든 방이다.
+    private ChatRoom createDirectRoom(String directKey, Long userId1, Long userId2) {
+        chatRoomRepository.insertDirectRoomIfAbsent(directKey, LocalDateTime.now());
+        ChatRoom room = chatRoomRepository.findByDirectKeyForUpdate(directKey)
+                .orElseThrow(() -> new IllegalStateException("1:1 채팅방 생성에 실패했습니다."));
+        if (!room.getParticipants().isEmpty()) {
+            return room; // 동시에 들어온 다른 요청이 만든 방
+        }
 
-    @Transactional
-    public ChatRoom createDirectRoom(Long userId1, Long userId2) {
-        ChatRoom room = ChatRoom.builder()
-                .type(ChatRoomType.DIRECT)
-                .build();
         room.getParticipants().add(createParticipant(userId1, room));
         room.getParticipants().add(createParticipant(userId2, room));
-        return chatRoomRepository.save(room);
+        publishMembershipChanged(room, List.of(userId1, userId2), List.of());
+        return room;
     }
 
     @Transactional
@@ -71,7 +75,14 @@ public class ChatRoomService {
                 .roomName(roomName)
                 .build();
         addParticipantsToRoom(room, userIds);
-        return chatRoomRepository.save(room);
+        ChatRoom saved = chatRoomRepository.save(room);
+        publishMembershipChanged(saved, userIds, List.of());
+        return saved;
+    }
+
+    private void publishMembershipChanged(ChatRoom room, List<Long> joinedUserIds, List<Long> leftUserIds) {
+        eventPublisher.publishEvent(new ChatRoomMembershipChangedEvent(
+                room.getId(), room.getRoomName(), room.getType(), joinedUserIds, leftUserIds));
     }
 
     private void addParticipantsToRoom(ChatRoom room, List<Long> userIds) {
@@ -95,16 +106,20 @@ public class ChatRoomService {
         return new ArrayList<>(uniqueIds);
     }
 
-    @Transactional(readOnly = true)
+    // 최근 활동 순 + 마지막 메시지/안 읽은 수 - ChatInboxService 가 Redis 에서 만든다
     public List<ChatRoomSummaryResponse> getRoomsByUserId(Long userId) {
-        List<ChatRoom> rooms = chatRoomRepository.findAllVisibleRoomsByUserId(userId);
-        return rooms.stream()
-                .map(room -> ChatRoomSummaryResponse.builder()
-                        .roomId(room.getId())
-                        .roomName(room.getRoomName())
-                        .type(room.getType())
-                        .build())
-                .toList();
+        return chatInboxService.getInbox(userId);
+    }
+
+    public void markRead(Long roomId, Long userId, Long messageId) {
+        authorizationValidator.validateParticipant(roomId, userId);
+        chatInboxService.markRead(roomId, userId);
+        chatReadReceiptService.record(roomId, userId, messageId);
+    }
+
+    public Map<Long, Long> getReads(Long roomId, Long userId) {
+        authorizationValidator.validateParticipant(roomId, userId);
+        return chatReadReceiptService.getReads(roomId);
     }
 
     @Transactional
@@ -123,6 +138,7 @@ public class ChatRoomService {
         }
 
         room.getParticipants().add(createParticipant(inviteeId, room));
+        publishMembershipChanged(room, List.of(inviteeId), List.of());
     }
 
     @Transactional
@@ -153,6 +169,7 @@ public class ChatRoomService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 유저는 채팅방에 속해 있지 않습니다."));
 
         room.getParticipants().remove(participant);
+        publishMembershipChanged(room, List.of(), List.of(userId));
     }
 
     @Transactional
@@ -170,5 +187,10 @@ public class ChatRoomService {
                 .orElseThrow(() -> new IllegalArgumentException("참여자가 아닙니다."));
 
         participant.setDeleted(true);
+        // 둘 다 숨기면 키를 풀어, 다음 대화는 새 방에서 시작되게 한다
+        if (room.getParticipants().stream().allMatch(ChatRoomParticipant::isDeleted)) {
+            room.setDirectKey(null);
+        }
+        publishMembershipChanged(room, List.of(), List.of(userId));
     }
 }
@@ -0,0 +1,74 @@
+package com.example.demo.domain.chat.service;
+
+import com.example.demo.domain.chat.auth.ChatParticipantProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 지금 방을 보고 있는 사용자 (Redis).
+ * - chat:viewers:{roomId} : "userId:sessionId" sorted set (score = 마지막 PRESENCE 하트비트 시각 ms)
+ * 클라이언트는 방 화면에 있는 동안 20초마다 PRESENCE 를 보내므로, ttl 안에 하트비트가 있었던 사용자만 보고 있는 것으로 본다.
+ * 세션(탭)별로 기록해 한 탭을 닫아도 같은 방을 보고 있는 다른 탭이 있으면 계속 보고 있는 것으로 남는다.
+ * 소켓은 여러 인스턴스에 흩어져 있어 알림 fan-out 하는 쪽이 한 번에 볼 수 있도록 Redis 에 둔다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatRoomViewers {
+
+    private static final String VIEWERS_PREFIX = "chat:viewers:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatParticipantProvider chatParticipantProvider;
+
+    @Value("${chat.viewers.ttl-ms:45000}")
+    private long ttlMs;
+
+    // PRESENCE 수신 시 호출 - 한도 초과로 방송이 버려진 하트비트도 여기에는 반영한다
+    public void update(Long roomId, Long userId, String sessionId, boolean active) {
+        if (roomId == null || userId == null) {
+            return;
+        }
+        String key = VIEWERS_PREFIX + roomId;
+        String member = userId + ":" + sessionId;
+        if (!active) {
+            stringRedisTemplate.opsForZSet().remove(key, member);
+            return;
+        }
+        if (!chatParticipantProvider.getActiveParticipantIdsCached(roomId).contains(userId)) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForZSet().add(key, member, now);
+                // 창을 닫고 PRESENCE false 를 못 보낸 사용자 정리
+                operations.opsForZSet().removeRangeByScore(key, 0, now - ttlMs);
+                operations.expire(key, ttlMs, TimeUnit.MILLISECONDS);
+                return null;
+            }
+        });
+    }
+
+    public Set<Long> viewerIds(Long roomId) {
+        Set<String> members = stringRedisTemplate.opsForZSet()
+                .rangeByScore(VIEWERS_PREFIX + roomId, System.currentTimeMillis() - ttlMs, Double.POSITIVE_INFINITY);
+        if (members == null || members.isEmpty()) {
+            return Set.of();
+        }
+        return members.stream()
+                .map(member -> Long.valueOf(member.substring(0, member.indexOf(':'))))
+                .collect(Collectors.toSet());
+    }
+}
@@ -3,11 +3,13 @@ package com.example.demo.domain.chat.subscriber;
 import com.example.demo.domain.chat.auth.ChatParticipantProvider;
 import com.example.demo.domain.chat.controller.dto.ChatMessage;
 import com.example.demo.domain.chat.websocket.ChatWebSocketHandler;
+import com.example.demo.global.messaging.RoutingEnvelope;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
 
 import java.util.Set;
 
@@ -21,23 +23,23 @@ public class RedisChatSubscriber implements MessageListener {
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
-        String json = new String(message.getBody());
-        System.out.println("📨 Redis 메시지 수신: " + json);
-
         try {
-            ChatMessage dto = objectMapper.readValue(json, ChatMessage.class);
-            Long roomId = Long.parseLong(dto.getRoomId());
+            // roomId 는 봉투에서 읽고 본문은 파싱하지 않은 채 TextMessage 하나로 모든 참여자에게 보낸다
+            RoutingEnvelope.Envelope envelope = RoutingEnvelope.unwrap(message.getBody());
+            Long roomId = envelope.hasRoute()
+                    ? Long.parseLong(envelope.route())
+                    : Long.parseLong(objectMapper.readValue(envelope.payload(), ChatMessage.class).getRoomId());
+            TextMessage payload = new TextMessage(envelope.payload());
 
             // ✅ 해당 채팅방 참여자만 WebSocket 전송
             Set<Long> participantIds = chatParticipantProvider.getParticipantIds(roomId);
 
             for (Long userId : participantIds) {
-                chatWebSocketHandler.sendMessageToUser(userId, json);
-                System.out.println("📤 WebSocket 메시지 전송: userId=" + userId + " content=" + json);
+                chatWebSocketHandler.sendMessageToUser(userId, payload);
             }
 
         } catch (Exception e) {
             System.err.println("❌ Redis → WebSocket 메시지 전송 실패: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,53 @@
+package com.example.demo.domain.chat.subscriber;
+
+import com.example.demo.domain.chat.auth.ChatParticipantProvider;
+import com.example.demo.domain.chat.controller.dto.ChatEphemeralEvent;
+import com.example.demo.domain.chat.websocket.ChatWebSocketHandler;
+import com.example.demo.global.messaging.RoutingEnvelope;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+
+// 입력 중/접속 표시를 이 인스턴스에 연결된 다른 참여자에게 best-effort 로 전달
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisEphemeralSubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final ChatWebSocketHandler chatWebSocketHandler;
+    private final ChatParticipantProvider chatParticipantProvider;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            // route = "roomId:보낸사람", 배포 중 섞여 들어오는 이전 형식(봉투 없음)은 본문에서 읽는다
+            RoutingEnvelope.Envelope envelope = RoutingEnvelope.unwrap(message.getBody());
+            Long roomId;
+            Long senderId;
+            if (envelope.hasRoute()) {
+                String route = envelope.route();
+                int separator = route.indexOf(':');
+                roomId = Long.parseLong(route.substring(0, separator));
+                senderId = Long.parseLong(route.substring(separator + 1));
+            } else {
+                ChatEphemeralEvent event = objectMapper.readValue(envelope.payload(), ChatEphemeralEvent.class);
+                roomId = Long.parseLong(event.getRoomId());
+                senderId = event.getUserId();
+            }
+
+            TextMessage payload = new TextMessage(envelope.payload());
+            for (Long userId : chatParticipantProvider.getActiveParticipantIdsCached(roomId)) {
+                if (!userId.equals(senderId)) {
+                    chatWebSocketHandler.sendEphemeralToUser(userId, payload);
+                }
+            }
+        } catch (Exception e) {
+            log.debug("휘발성 이벤트 전달 실패: {}", e.getMessage());
+        }
+    }
+}
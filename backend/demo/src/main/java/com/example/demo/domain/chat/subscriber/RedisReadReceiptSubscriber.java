@@ -0,0 +1,41 @@
+package com.example.demo.domain.chat.subscriber;
+
+import com.example.demo.domain.chat.auth.ChatParticipantProvider;
+import com.example.demo.domain.chat.controller.dto.ChatReadReceipt;
+import com.example.demo.domain.chat.websocket.ChatWebSocketHandler;
+import com.example.demo.global.messaging.RoutingEnvelope;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+
+// 읽음 상태를 이 인스턴스에 연결된 방 참여자에게 전달 (방마다 방송 주기당 최대 한 번)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisReadReceiptSubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final ChatWebSocketHandler chatWebSocketHandler;
+    private final ChatParticipantProvider chatParticipantProvider;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            // 배포 중 섞여 들어오는 이전 형식(봉투 없음)은 본문에서 roomId 를 읽는다
+            RoutingEnvelope.Envelope envelope = RoutingEnvelope.unwrap(message.getBody());
+            Long roomId = envelope.hasRoute()
+                    ? Long.parseLong(envelope.route())
+                    : Long.parseLong(objectMapper.readValue(envelope.payload(), ChatReadReceipt.class).getRoomId());
+            TextMessage payload = new TextMessage(envelope.payload());
+            for (Long userId : chatParticipantProvider.getParticipantIds(roomId)) {
+                chatWebSocketHandler.sendMessageToUser(userId, payload);
+            }
+        } catch (Exception e) {
+            log.warn("읽음 상태 전송 실패: {}", e.getMessage());
+        }
+    }
+}
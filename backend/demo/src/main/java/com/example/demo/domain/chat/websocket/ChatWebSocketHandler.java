@@ -1,10 +1,24 @@
 package com.example.demo.domain.chat.websocket;
 
+import com.example.demo.domain.chat.controller.dto.ChatSocketAck;
+import com.example.demo.domain.chat.controller.dto.ChatSocketCommand;
+import com.example.demo.domain.chat.service.ChatEphemeralRelay;
+import com.example.demo.domain.chat.service.ChatMessageService;
+import com.example.demo.domain.chat.service.ChatReadReceiptService;
+import com.example.demo.domain.chat.service.ChatRoomViewers;
+import com.example.demo.domain.member.user.event.UserNicknameChangedEvent;
+import com.example.demo.global.auth.jwt.JwtAuthentication;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -13,39 +27,203 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ChatWebSocketHandler extends TextWebSocketHandler {
 
-    private final Map<Long, Set<WebSocketSession>> sessions = new ConcurrentHashMap<>();
+    private static final String USER_ID = "userId";
+    private static final String NICKNAME = "nickname";
+    private static final String OUTBOUND = "outbound";
+    private static final String VIEWING = "viewing";
+    private static final int SEND_TIME_LIMIT_MS = 10_000;
+    private static final int BUFFER_SIZE_LIMIT = 512 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final ChatReadReceiptService chatReadReceiptService;
+    private final ChatEphemeralRelay chatEphemeralRelay;
+    private final ChatMessageService chatMessageService;
+    private final ChatRoomViewers chatRoomViewers;
+
+    // 여러 스레드(Redis 리스너 등)에서 보내므로 세션마다 전송을 직렬화하는 decorator 를 보관
+    private final Map<Long, Set<ConcurrentWebSocketSessionDecorator>> sessions = new ConcurrentHashMap<>();
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
-        String userIdParam = UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().getFirst("userId");
-        Long userId = Long.valueOf(userIdParam);
+        // 핸드셰이크 요청이 JWT 필터를 통과했다면 인증 정보로 세션 신원(userId, 닉네임)을 고정한다
+        Long userId;
+        if (session.getPrincipal() instanceof JwtAuthentication auth) {
+            userId = auth.getUserId();
+            session.getAttributes().put(NICKNAME, auth.getNickname());
+        } else {
+            String userIdParam = UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().getFirst("userId");
+            userId = Long.valueOf(userIdParam);
+        }
 
-        sessions.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(session);
+        ConcurrentWebSocketSessionDecorator outbound =
+                new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, BUFFER_SIZE_LIMIT);
+        session.getAttributes().put(USER_ID, userId);
+        session.getAttributes().put(OUTBOUND, outbound);
+        session.getAttributes().put(VIEWING, ConcurrentHashMap.newKeySet());
+        sessions.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(outbound);
         System.out.println("🔌 Chat WebSocket 연결됨: userId = " + userId);
     }
 
+    // READ 는 메모리에 모았다가 ChatReadReceiptService 가 주기적으로 반영/방송하고,
+    // TYPING/PRESENCE 는 저장 없이 ChatEphemeralRelay 로 바로 방송한다.
+    // ?userId= 로만 붙은 세션은 누구든 흉내 낼 수 있으므로 받기만 하고 어떤 명령도 처리하지 않는다
+    // (읽음 커서 조작, 가짜 PRESENCE 로 남의 알림을 끄는 것 방지)
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        ChatSocketCommand command = objectMapper.readValue(message.getPayload(), ChatSocketCommand.class);
+        if (!isAuthenticated(session)) {
+            if ("SEND".equals(command.getType())) {
+                ack(session, command, "인증된 연결에서만 메시지를 보낼 수 있습니다.");
+            }
+            return;
+        }
+        Long userId = (Long) session.getAttributes().get(USER_ID);
+        if ("SEND".equals(command.getType())) {
+            handleSend(session, userId, command);
+        } else if ("READ".equals(command.getType())) {
+            chatReadReceiptService.record(command.getRoomId(), userId, command.getMessageId());
+        } else if (ChatEphemeralRelay.TYPES.contains(command.getType())) {
+            if ("PRESENCE".equals(command.getType())) {
+                updateViewing(session, userId, command.getRoomId(), Boolean.TRUE.equals(command.getActive()));
+            }
+            chatEphemeralRelay.relay(userId, command.getType(), command.getRoomId(), Boolean.TRUE.equals(command.getActive()));
+        }
+    }
+
+    // 핸드셰이크가 JWT 필터를 통과한 세션만 신원을 믿는다
+    private boolean isAuthenticated(WebSocketSession session) {
+        return session.getPrincipal() instanceof JwtAuthentication;
+    }
+
+    // 방을 보고 있는 사용자에게는 채팅 알림을 보내지 않으므로, 연결이 끊길 때 지울 수 있게 세션에도 기록
+    @SuppressWarnings("unchecked")
+    private void updateViewing(WebSocketSession session, Long userId, Long roomId, boolean active) {
+        if (roomId == null) {
+            return;
+        }
+        Set<Long> viewing = (Set<Long>) session.getAttributes().get(VIEWING);
+        if (active) {
+            viewing.add(roomId);
+        } else {
+            viewing.remove(roomId);
+        }
+        chatRoomViewers.update(roomId, userId, session.getId(), active);
+    }
+
+    // Kafka 기록이 끝나면 ACK, 실패하면 ok=false 로 알려 클라이언트가 다시 보낼 수 있게 한다
+    private void handleSend(WebSocketSession session, Long userId, ChatSocketCommand command) {
+        String nickname = (String) session.getAttributes().get(NICKNAME);
+        try {
+            chatMessageService.sendFromSocket(userId, nickname, command.getRoomId(), command.getContent(), command.getClientMessageId())
+                    .whenComplete((result, e) -> ack(session, command, e == null ? null : "메시지 전송에 실패했습니다."));
+        } catch (RuntimeException e) {
+            ack(session, command, e.getMessage());
+        }
+    }
+
+    private void ack(WebSocketSession session, ChatSocketCommand command, String error) {
+        ChatSocketAck ack = ChatSocketAck.builder()
+                .type(ChatSocketAck.TYPE)
+                .roomId(command.getRoomId() != null ? String.valueOf(command.getRoomId()) : null)
+                .clientMessageId(command.getClientMessageId())
+                .ok(error == null)
+                .error(error)
+                .build();
+        Object outbound = session.getAttributes().get(OUTBOUND);
+        if (!(outbound instanceof WebSocketSession target) || !target.isOpen()) {
+            return;
+        }
+        try {
+            target.sendMessage(new TextMessage(objectMapper.writeValueAsString(ack)));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("ACK 직렬화 실패", e);
+        } catch (SessionLimitExceededException e) {
+            log.warn("❌ 느린 Chat WebSocket 세션 종료: {}", e.getMessage());
+        } catch (IOException e) {
+            log.warn("❌ ACK 전송 실패: {}", e.getMessage());
+        }
+    }
+
+    // 연결 중 닉네임을 바꾸면 이 인스턴스의 세션 캐시도 갱신
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNicknameChanged(UserNicknameChangedEvent event) {
+        Set<ConcurrentWebSocketSessionDecorator> userSessions = sessions.get(event.getUserId());
+        if (userSessions == null) {
+            return;
+        }
+        for (ConcurrentWebSocketSessionDecorator session : userSessions) {
+            session.getAttributes().computeIfPresent(NICKNAME, (k, v) -> event.getNickname());
+        }
+    }
+
     @Override
+    @SuppressWarnings("unchecked")
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
-        sessions.forEach((userId, sessionSet) -> sessionSet.remove(session));
+        Long userId = (Long) session.getAttributes().get(USER_ID);
+        Object outbound = session.getAttributes().get(OUTBOUND);
+        if (userId != null) {
+            // 이 세션(탭) 기록만 지우므로 같은 방을 보는 다른 탭은 그대로 남는다
+            Set<Long> viewing = (Set<Long>) session.getAttributes().get(VIEWING);
+            if (viewing != null) {
+                viewing.forEach(roomId -> chatRoomViewers.update(roomId, userId, session.getId(), false));
+            }
+            sessions.computeIfPresent(userId, (k, set) -> {
+                set.remove(outbound);
+                return set.isEmpty() ? null : set;
+            });
+            if (!sessions.containsKey(userId)) {
+                chatEphemeralRelay.forget(userId);
+            }
+        }
+        if (CloseStatus.SESSION_NOT_RELIABLE.equals(status)) {
+            log.warn("❌ Chat WebSocket 전송 버퍼 초과로 종료: userId={}", userId);
+        }
         System.out.println("❌ Chat WebSocket 연결 종료됨");
     }
 
-    public void sendMessageToUser(Long userId, String json) throws IOException {
-        Set<WebSocketSession> userSessions = sessions.get(userId);
+    // TextMessage 는 불변이라 여러 수신자/세션에 같은 인스턴스를 그대로 보낸다.
+    // 10초 넘게 못 보내거나 버퍼가 512KB 를 넘긴 세션은 decorator 가 닫는다(TERMINATE).
+    // 메시지를 조용히 버리면 대화가 빠진 채로 보이므로, 닫고 다시 연결하면서 기록을 새로 받게 한다.
+    // 한 세션이 닫혀도 같은 사용자의 다른 세션에는 계속 보낸다.
+    public void sendMessageToUser(Long userId, TextMessage message) throws IOException {
+        Set<ConcurrentWebSocketSessionDecorator> userSessions = sessions.get(userId);
         if (userSessions != null) {
             for (WebSocketSession session : userSessions) {
-                if (session.isOpen()) {
-                    session.sendMessage(new TextMessage(json));
-                    System.out.println("📤 Chat WebSocket 메시지 전송: userId=" + userId + " content=" + json);
+                if (!session.isOpen()) {
+                    continue;
+                }
+                try {
+                    session.sendMessage(message);
+                } catch (SessionLimitExceededException e) {
+                    log.warn("❌ 느린 Chat WebSocket 세션 종료: userId={}, {}", userId, e.getMessage());
                 }
             }
         }
     }
 
+    // 휘발성 이벤트 - 이미 보내는 중이거나 버퍼가 쌓인 세션은 건너뛴다 (다음 이벤트가 상태를 덮음)
+    public void sendEphemeralToUser(Long userId, TextMessage message) {
+        Set<ConcurrentWebSocketSessionDecorator> userSessions = sessions.get(userId);
+        if (userSessions == null) {
+            return;
+        }
+        for (ConcurrentWebSocketSessionDecorator session : userSessions) {
+            if (!session.isOpen() || session.getBufferSize() > 0 || session.getTimeSinceSendStarted() > 0) {
+                continue;
+            }
+            try {
+                session.sendMessage(message);
+            } catch (IOException | RuntimeException ignored) {
+                // 유실 허용
+            }
+        }
+    }
+
     public Set<Long> getAllConnectedUserIds() {
         return sessions.keySet();
     }
@@ -0,0 +1,13 @@
+package com.example.demo.domain.member.follow.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 승인까지 끝난 팔로우 (공개 계정 팔로우, 비공개 계정의 요청 승인)
+@Getter
+@AllArgsConstructor
+public class FollowedEvent {
+    private Long followerId;
+    private Long followingId;
+    private boolean publicPost; // 비공개 계정의 게시글은 탐색 탭에 노출하지 않음
+}
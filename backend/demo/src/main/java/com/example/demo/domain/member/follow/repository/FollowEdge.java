@@ -0,0 +1,8 @@
+package com.example.demo.domain.member.follow.repository;
+
+// 팔로우 관계 한 건 - 상태 표시용으로 (following_id, approved) 만 조회
+public interface FollowEdge {
+    Long getFollowingId();
+
+    boolean isApproved();
+}
@@ -2,7 +2,10 @@ package com.example.demo.domain.member.follow.repository;
 
 import com.example.demo.domain.member.follow.entity.Follow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +22,9 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     long countByFollowerIdAndApprovedTrue(Long followerId);   // 승인된 팔로잉 수
 
     boolean existsByFollowerIdAndFollowingIdAndApproved(Long followerId, Long followingId, boolean approved);
+
+    // (follower_id, following_id) 유니크 인덱스로 한 번에 조회
+    @Query("SELECT f.following.id AS followingId, f.approved AS approved FROM Follow f " +
+            "WHERE f.follower.id = :followerId AND f.following.id IN :followingIds")
+    List<FollowEdge> findEdges(@Param("followerId") Long followerId, @Param("followingIds") Collection<Long> followingIds);
 }
@@ -2,6 +2,8 @@ package com.example.demo.domain.member.follow.service;
 
 import com.example.demo.domain.member.follow.controller.dto.*;
 import com.example.demo.domain.member.follow.entity.Follow;
+import com.example.demo.domain.member.follow.event.FollowedEvent;
+import com.example.demo.domain.member.follow.repository.FollowEdge;
 import com.example.demo.domain.member.follow.repository.FollowRepository;
 import com.example.demo.domain.member.user.controller.dto.UserDto;
 import com.example.demo.domain.member.user.entity.User;
@@ -11,11 +13,13 @@ import com.example.demo.domain.notice.message.NotificationType;
 import com.example.demo.domain.notice.producer.NotificationProducer;
 import com.example.demo.global.util.Util;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +32,7 @@ public class FollowService {
     private final FollowRepository followRepository;
     private final Util util;
     private final NotificationProducer notificationProducer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public FollowResponseDto follow(Long followerId, Long followingId) {
@@ -51,6 +56,7 @@ public class FollowService {
         if (isApproved) {
             // 바로 팔로우 된 거임. 팔로우 한 사람 -> 팔로잉 된 사람 알람 보내기
             sendNotification(NotificationType.FOLLOW, follow.getFollower(), follow.getFollowing());
+            eventPublisher.publishEvent(new FollowedEvent(followerId, followingId, true));
         } else {
             // 바로 팔로우 안됨. 팔로우 한 사람 -> 팔로잉 된 사람에게 승인 요청 보내기
             sendNotification(NotificationType.FOLLOW_REQUEST, follow.getFollower(), follow.getFollowing());
@@ -72,6 +78,7 @@ public class FollowService {
         follow.setApproved(true);
         // 팔로우 승인 됨. 팔로우 승인 한 사람 -> 팔로우 요청 보낸 사람
         sendNotification(NotificationType.FOLLOW_ACCEPTED, follow.getFollowing(), follow.getFollower());
+        eventPublisher.publishEvent(new FollowedEvent(follow.getFollower().getId(), followingId, !follow.getFollowing().isPrivate()));
         return new SimpleResponseDto("팔로우 요청을 승인했습니다.");
     }
 
@@ -183,4 +190,17 @@ public class FollowService {
                 .orElseGet(() -> new FollowStatusResponseDto(targetUserId, FollowState.NONE));
     }
 
+    // 목록 화면용 - 여러 대상의 팔로우 상태를 한 번에. 관계가 없거나 자기 자신이면 결과에 없음(NONE)
+    @Transactional(readOnly = true)
+    public Map<Long, FollowState> getFollowStates(Long currentUserId, Collection<Long> targetUserIds) {
+        if (currentUserId == null || targetUserIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, FollowState> states = new HashMap<>();
+        for (FollowEdge edge : followRepository.findEdges(currentUserId, targetUserIds)) {
+            states.put(edge.getFollowingId(), edge.isApproved() ? FollowState.FOLLOWING : FollowState.REQUESTED);
+        }
+        return states;
+    }
+
 }
@@ -8,13 +8,13 @@ import com.example.demo.domain.member.user.controller.dto.UserProfileDto;
 import com.example.demo.domain.member.user.controller.dto.UserResponseDto;
 import com.example.demo.domain.member.user.service.UserService;
 import com.example.demo.global.auth.jwt.JwtAuthentication;
+import com.example.demo.global.exception.AccessDeniedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Random;
 
 @Slf4j
 @RestController
@@ -38,7 +38,7 @@ public class UserController {
     public ResponseEntity<List<UserDto>> searchUsers(
             @RequestParam String nickname
     ) {
-        return ResponseEntity.ok(userService.searchByNickname_MySQL(nickname));
+        return ResponseEntity.ok(userService.searchByNickname(nickname));
     }
 
     @GetMapping("/{userId}")
@@ -57,30 +57,13 @@ public class UserController {
         return ResponseEntity.ok(null);
     }
 
-
-//    @GetMapping("test/search/mysql")
-//    public ResponseEntity<List<UserDto>> testSearchUsersMySQL() {
-//        String keyword = getRandomTwoDigitKeyword();
-//        return ResponseEntity.ok(userService.searchByNickname_MySQL(keyword));
-//    }
-//
-//    @GetMapping("test/search/mongo")
-//    public ResponseEntity<List<UserDto>> testSearchUsersMongo() {
-//        String keyword = getRandomTwoDigitKeyword();
-//        return ResponseEntity.ok(userService.searchByNickname_Mongo(keyword));
-//    }
-//
-//    @GetMapping("test/search/elasticsearch")
-//    public ResponseEntity<List<UserDto>> testSearchUsersElasticsearch() {
-//        String keyword = getRandomTwoDigitKeyword();
-//        return ResponseEntity.ok(userService.searchByNickname_Elasticsearch(keyword));
-//    }
-//
-//    // 공통 키워드 생성 메서드
-//    private String getRandomTwoDigitKeyword() {
-//        int num = new Random().nextInt(100);  // 0 ~ 99
-//        String keyword = String.format("%02d", num);    // 두 자리 문자열로 변환 ("01", "99" 등)
-//        log.info("keyword : {} search", keyword);
-//        return keyword;
-//    }
+    // user 검색 인덱스 전체 재색인 (관리자) - 백그라운드로 돌고 바로 반환
+    @PostMapping("/search/reindex")
+    public ResponseEntity<Void> reindexSearch(JwtAuthentication auth) {
+        if (!auth.isAdmin()) {
+            throw new AccessDeniedException("관리자만 재색인할 수 있습니다.");
+        }
+        userService.reindexSearch();
+        return ResponseEntity.accepted().build();
+    }
 }
@@ -0,0 +1,50 @@
+package com.example.demo.domain.member.user.controller;
+
+import com.example.demo.domain.member.user.controller.dto.UserDto;
+import com.example.demo.domain.member.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 검색 엔진 비교용 (memory / mysql / mongo / elasticsearch) - local 프로필에서만 등록된다.
+ */
+@Slf4j
+@Profile("local")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/user/test")
+public class UserSearchTestController {
+
+    private final UserService userService;
+
+    // 검색어가 없으면 임의의 두 자리 숫자로 검색
+    @GetMapping("/search/{engine}")
+    public ResponseEntity<List<UserDto>> testSearchUsers(
+            @PathVariable String engine,
+            @RequestParam(required = false) String nickname
+    ) {
+        String keyword = nickname != null ? nickname : getRandomTwoDigitKeyword();
+        return ResponseEntity.ok(userService.searchByNickname(engine, keyword));
+    }
+
+    // 없는 엔진 이름
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleUnknownEngine(IllegalArgumentException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
+    // 공통 키워드 생성 메서드
+    private String getRandomTwoDigitKeyword() {
+        int num = new Random().nextInt(100);  // 0 ~ 99
+        String keyword = String.format("%02d", num);    // 두 자리 문자열로 변환 ("01", "99" 등)
+        log.info("keyword : {} search", keyword);
+        return keyword;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.domain.member.user.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 갱신 대기열 (outbox).
+ * 닉네임 변경/가입과 같은 트랜잭션에서 기록되고, UserEsBulkIndexer 가 모아서 Elasticsearch 에 반영한 뒤 삭제한다.
+ * 색인 시점의 최신 닉네임을 다시 읽어 반영하므로 userId 만 보관한다.
+ */
+@Entity
+@Table(name = "user_search_outbox")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class UserSearchOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @CreatedDate
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
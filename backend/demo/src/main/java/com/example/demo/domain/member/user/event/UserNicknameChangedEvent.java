@@ -0,0 +1,14 @@
+package com.example.demo.domain.member.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 닉네임이 새로 등록되거나 변경되었을 때 발행되는 이벤트 (신규 가입 포함)
+ */
+@Getter
+@AllArgsConstructor
+public class UserNicknameChangedEvent {
+    private Long userId;
+    private String nickname;
+}
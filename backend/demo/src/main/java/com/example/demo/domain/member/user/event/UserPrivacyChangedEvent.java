@@ -0,0 +1,11 @@
+package com.example.demo.domain.member.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserPrivacyChangedEvent {
+    private Long userId;
+    private boolean isPrivate;
+}
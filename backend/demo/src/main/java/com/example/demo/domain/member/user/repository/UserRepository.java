@@ -1,7 +1,11 @@
 package com.example.demo.domain.member.user.repository;
 
+import com.example.demo.domain.member.user.controller.dto.UserDto;
 import com.example.demo.domain.member.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,7 +15,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
-    List<User> findByNicknameContainingIgnoreCase(String nickname);
+    List<User> findByNicknameContainingIgnoreCase(String nickname, Pageable pageable);
 
+    @Query("""
+        SELECT new com.example.demo.domain.member.user.controller.dto.UserDto(u.id, u.nickname)
+        FROM User u
+        WHERE u.id > :lastId
+        ORDER BY u.id ASC
+    """)
+    List<UserDto> findNicknameChunkAfter(@Param("lastId") Long lastId, Pageable pageable);
 
 }
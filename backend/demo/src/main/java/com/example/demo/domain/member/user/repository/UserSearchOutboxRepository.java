@@ -0,0 +1,11 @@
+package com.example.demo.domain.member.user.repository;
+
+import com.example.demo.domain.member.user.entity.UserSearchOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface UserSearchOutboxRepository extends JpaRepository<UserSearchOutbox, Long> {
+
+    List<UserSearchOutbox> findTop500ByOrderByIdAsc();
+}
@@ -0,0 +1,80 @@
+package com.example.demo.domain.member.user.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import com.example.demo.domain.member.user.controller.dto.UserDto;
+import com.example.demo.domain.member.user.entity.UserEsDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class ElasticsearchNicknameSearchEngine implements NicknameSearchEngine {
+
+    private static final int OVER_FETCH = 3;
+
+    private final ElasticsearchClient elasticsearchClient;
+
+    @Override
+    public String name() {
+        return "elasticsearch";
+    }
+
+    @Override
+    public List<UserDto> search(String keyword, int limit) {
+        String lower = keyword.toLowerCase(Locale.ROOT);
+        List<String> pieces = pieces(lower);
+        // 조각이 여러 개면 모두 포함해도 이어져 있지 않을 수 있어 조금 더 가져와 실제 포함 여부로 거른다
+        int size = pieces.size() > 1 ? limit * OVER_FETCH : limit;
+
+        try {
+            SearchResponse<UserEsDocument> response = elasticsearchClient.search(s -> s
+                            .index(UserEsIndexManager.INDEX)
+                            .query(q -> q
+                                    .bool(b -> {
+                                        pieces.forEach(piece -> b.must(mu -> mu
+                                                .match(m -> m
+                                                        .field("nickname")
+                                                        .query(piece)
+                                                )
+                                        ));
+                                        return b;
+                                    })
+                            )
+                            .size(size),
+                    UserEsDocument.class
+            );
+
+            return response.hits().hits().stream()
+                    .map(hit -> hit.source())
+                    .filter(Objects::nonNull)
+                    .filter(doc -> doc.getNickname() != null && doc.getNickname().toLowerCase(Locale.ROOT).contains(lower))
+                    .limit(limit)
+                    .map(UserDto::from)
+                    .toList();
+
+        } catch (IOException e) {
+            throw new RuntimeException("Elasticsearch 닉네임 포함 검색 실패", e);
+        }
+    }
+
+    // ngram 최대 길이보다 긴 검색어는 NGRAM_MAX 글자 조각으로 나눈다 (마지막 조각은 끝에 맞춰 앞 조각과 겹침)
+    private static List<String> pieces(String lower) {
+        int max = UserEsIndexManager.NGRAM_MAX;
+        if (lower.length() <= max) {
+            return List.of(lower);
+        }
+        List<String> pieces = new ArrayList<>();
+        for (int from = 0; from < lower.length(); from += max) {
+            int start = Math.min(from, lower.length() - max);
+            pieces.add(lower.substring(start, start + max));
+        }
+        return pieces;
+    }
+}
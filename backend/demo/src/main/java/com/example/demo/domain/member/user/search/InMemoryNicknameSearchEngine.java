@@ -0,0 +1,29 @@
+package com.example.demo.domain.member.user.search;
+
+import com.example.demo.domain.member.user.controller.dto.UserDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class InMemoryNicknameSearchEngine implements NicknameSearchEngine {
+
+    private final NicknameSearchIndex nicknameSearchIndex;
+    private final MySqlNicknameSearchEngine mySqlNicknameSearchEngine;
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    // 인메모리 색인이 준비되기 전(기동 직후)에만 DB 로 검색
+    @Override
+    public List<UserDto> search(String keyword, int limit) {
+        if (nicknameSearchIndex.isReady()) {
+            return nicknameSearchIndex.search(keyword, limit);
+        }
+        return mySqlNicknameSearchEngine.search(keyword, limit);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.domain.member.user.search;
+
+import com.example.demo.domain.member.user.controller.dto.UserDto;
+import com.example.demo.domain.member.user.repository.UserMongoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+// user 컬렉션은 소문자 닉네임을 저장하므로 검색어도 소문자로 맞춰 정규식 검색
+@Component
+@RequiredArgsConstructor
+public class MongoNicknameSearchEngine implements NicknameSearchEngine {
+
+    private final UserMongoRepository userMongoRepository;
+
+    @Override
+    public String name() {
+        return "mongo";
+    }
+
+    @Override
+    public List<UserDto> search(String keyword, int limit) {
+        String lower = keyword.toLowerCase(Locale.ROOT);
+        return userMongoRepository.findByNicknameContaining(lower, PageRequest.of(0, limit)).stream()
+                .map(UserDto::from)
+                .toList();
+    }
+}
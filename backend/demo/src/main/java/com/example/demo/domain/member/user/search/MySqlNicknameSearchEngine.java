@@ -0,0 +1,31 @@
+package com.example.demo.domain.member.user.search;
+
+import com.example.demo.domain.member.user.controller.dto.UserDto;
+import com.example.demo.domain.member.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// LIKE '%keyword%' 풀 스캔 - 비교 기준 및 인메모리 색인 준비 전 fallback 용
+@Component
+@RequiredArgsConstructor
+public class MySqlNicknameSearchEngine implements NicknameSearchEngine {
+
+    private final UserRepository userRepository;
+
+    @Override
+    public String name() {
+        return "mysql";
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDto> search(String keyword, int limit) {
+        return userRepository.findByNicknameContainingIgnoreCase(keyword, PageRequest.of(0, limit)).stream()
+                .map(UserDto::from)
+                .toList();
+    }
+}
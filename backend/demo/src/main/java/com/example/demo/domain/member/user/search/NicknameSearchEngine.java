@@ -0,0 +1,16 @@
+package com.example.demo.domain.member.user.search;
+
+import com.example.demo.domain.member.user.controller.dto.UserDto;
+
+import java.util.List;
+
+/**
+ * 닉네임 부분 일치 검색 백엔드.
+ * 사용할 구현체는 user.search.engine 프로퍼티(memory / mysql / mongo / elasticsearch)로 선택한다.
+ */
+public interface NicknameSearchEngine {
+
+    String name();
+
+    List<UserDto> search(String keyword, int limit);
+}
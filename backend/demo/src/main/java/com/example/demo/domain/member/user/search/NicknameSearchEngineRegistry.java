@@ -0,0 +1,34 @@
+package com.example.demo.domain.member.user.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class NicknameSearchEngineRegistry {
+
+    private final Map<String, NicknameSearchEngine> engines;
+    private final NicknameSearchEngine selected;
+
+    public NicknameSearchEngineRegistry(List<NicknameSearchEngine> engines,
+                                        @Value("${user.search.engine:memory}") String engineName) {
+        this.engines = engines.stream()
+                .collect(Collectors.toMap(NicknameSearchEngine::name, Function.identity()));
+        this.selected = get(engineName);
+    }
+
+    // user.search.engine 으로 선택된 엔진
+    public NicknameSearchEngine selected() {
+        return selected;
+    }
+
+    public NicknameSearchEngine get(String name) {
+        return Optional.ofNullable(engines.get(name))
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 검색 엔진입니다: " + name));
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.demo.domain.member.user.search;
+
+import com.example.demo.domain.member.user.controller.dto.UserDto;
+import com.example.demo.domain.member.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 닉네임 부분 일치 검색용 인메모리 n-gram 색인.
+ * 기동 시 user 테이블을 id 순으로 나눠 읽어 색인을 만들고, 이후에는 닉네임 변경/가입 이벤트로 갱신한다.
+ * 인스턴스마다 색인을 따로 가지므로 변경은 NicknameSearchIndexSync 가 Redis pub/sub 으로 모든 인스턴스에 전달한다.
+ * 1글자 검색어는 unigram, 2글자 이상은 bigram posting 교집합으로 후보를 좁힌 뒤 실제 포함 여부를 확인한다.
+ * 접두사 일치는 정렬된 닉네임 목록의 범위 조회로 먼저 찾으므로, 흔한 n-gram 이라 후보가 MAX_SCAN 을 넘어도 상위에 빠지지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NicknameSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+    private static final int WARM_UP_CHUNK_SIZE = 1000;
+    private static final int MAX_SCAN = 1000; // 한 번의 검색에서 순위를 매길 최대 일치 후보 수
+
+    private final UserRepository userRepository;
+
+    private final Map<Long, String> nicknames = new ConcurrentHashMap<>();      // userId -> 닉네임
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();  // gram -> userId 목록
+    private final NavigableSet<SortedEntry> sorted = new ConcurrentSkipListSet<>( // (정규화 닉네임, userId) 순 - 접두사 범위 조회용
+            Comparator.comparing(SortedEntry::normalized).thenComparingLong(SortedEntry::userId));
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpAsync() {
+        CompletableFuture.runAsync(this::warmUp)
+                .exceptionally(e -> {
+                    log.error("닉네임 색인 생성 실패 - DB 검색으로 계속 동작합니다.", e);
+                    return null;
+                });
+    }
+
+    void warmUp() {
+        long start = System.currentTimeMillis();
+        long lastId = 0L;
+        List<UserDto> chunk;
+        do {
+            chunk = userRepository.findNicknameChunkAfter(lastId, PageRequest.of(0, WARM_UP_CHUNK_SIZE));
+            for (UserDto user : chunk) {
+                indexIfAbsent(user.getId(), user.getNickname());
+                lastId = user.getId();
+            }
+        } while (chunk.size() == WARM_UP_CHUNK_SIZE);
+
+        ready = true;
+        log.info("🔍 닉네임 색인 생성 완료: users={}, grams={}, {}ms",
+                nicknames.size(), postings.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 벤치마크 비교용 메모리 사용량 추정치 (posting 1건 ≈ 48B, gram 키 ≈ 80B, 닉네임 1건 ≈ 96B, 정렬 목록 1건 ≈ 120B)
+    public long estimatedSizeInBytes() {
+        long postingEntries = postings.values().stream().mapToLong(Set::size).sum();
+        return postingEntries * 48L + postings.size() * 80L + nicknames.size() * 96L + sorted.size() * 120L;
+    }
+
+    // nicknames.compute 가 같은 userId 의 갱신을 한 번에 하나씩만 실행하므로 posting 의 unlink/link 가 섞이지 않는다
+    public void put(Long userId, String nickname) {
+        if (nickname == null) {
+            remove(userId);
+            return;
+        }
+        nicknames.compute(userId, (id, previous) -> {
+            if (previous != null) {
+                unlink(id, previous);
+            }
+            link(id, nickname);
+            return nickname;
+        });
+    }
+
+    public void remove(Long userId) {
+        nicknames.computeIfPresent(userId, (id, previous) -> {
+            unlink(id, previous);
+            return null;
+        });
+    }
+
+    // 색인 생성 중 들어온 실시간 갱신이 오래된 값으로 덮이지 않도록 없는 경우에만 추가
+    private void indexIfAbsent(Long userId, String nickname) {
+        if (nickname == null) {
+            return;
+        }
+        nicknames.computeIfAbsent(userId, id -> {
+            link(id, nickname);
+            return nickname;
+        });
+    }
+
+    /**
+     * 검색어를 포함하는 닉네임을 최대 limit 개 반환한다.
+     * 정렬: 접두사 일치 우선 → 짧은 닉네임 우선 → id 오름차순
+     */
+    public List<UserDto> search(String keyword, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(query, Math.min(query.length(), GRAM_SIZE))) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Comparator<Candidate> ranking = Comparator
+                .comparing((Candidate c) -> !c.prefix())
+                .thenComparingInt(c -> c.nickname().length())
+                .thenComparingLong(c -> c.userId());
+        PriorityQueue<Candidate> top = new PriorityQueue<>(limit + 1, ranking.reversed());
+
+        // 1) 접두사 일치 - 정렬 목록에서 query 로 시작하는 범위만 읽는다 (완전 일치가 범위 맨 앞)
+        int prefixMatches = 0;
+        for (SortedEntry entry : sorted.subSet(new SortedEntry(query, Long.MIN_VALUE), true,
+                new SortedEntry(query + Character.MAX_VALUE, Long.MIN_VALUE), false)) {
+            if (prefixMatches >= MAX_SCAN) {
+                break;
+            }
+            String nickname = nicknames.get(entry.userId());
+            if (nickname == null || !normalize(nickname).startsWith(query)) {
+                continue; // 읽는 사이 바뀐 닉네임
+            }
+            prefixMatches++;
+            offer(top, new Candidate(entry.userId(), nickname, true), limit);
+        }
+        // 접두사 일치로 limit 개가 찼으면 중간 일치는 순위에 들 수 없다
+        if (prefixMatches >= limit) {
+            return toResult(top, ranking);
+        }
+
+        // 2) 중간 일치 - n-gram posting 교집합 (접두사 일치는 1) 에서 반영)
+        int scanned = 0;
+        for (Long userId : lists.get(0)) {
+            if (scanned >= MAX_SCAN) {
+                break;
+            }
+            if (!containsInAll(lists, userId)) {
+                continue;
+            }
+            String nickname = nicknames.get(userId);
+            if (nickname == null) {
+                continue;
+            }
+            String normalized = normalize(nickname);
+            if (normalized.indexOf(query) <= 0) {
+                continue; // 없음 또는 접두사 일치
+            }
+            scanned++;
+            offer(top, new Candidate(userId, nickname, false), limit);
+        }
+        return toResult(top, ranking);
+    }
+
+    private static void offer(PriorityQueue<Candidate> top, Candidate candidate, int limit) {
+        top.offer(candidate);
+        if (top.size() > limit) {
+            top.poll();
+        }
+    }
+
+    private static List<UserDto> toResult(PriorityQueue<Candidate> top, Comparator<Candidate> ranking) {
+        List<Candidate> result = new ArrayList<>(top);
+        result.sort(ranking);
+        return result.stream()
+                .map(c -> new UserDto(c.userId(), c.nickname()))
+                .toList();
+    }
+
+    private boolean containsInAll(List<Set<Long>> lists, Long userId) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(userId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void link(Long userId, String nickname) {
+        String normalized = normalize(nickname);
+        sorted.add(new SortedEntry(normalized, userId));
+        for (String gram : allGrams(normalized)) {
+            postings.compute(gram, (k, ids) -> {
+                Set<Long> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                target.add(userId);
+                return target;
+            });
+        }
+    }
+
+    private void unlink(Long userId, String nickname) {
+        String normalized = normalize(nickname);
+        sorted.remove(new SortedEntry(normalized, userId));
+        for (String gram : allGrams(normalized)) {
+            postings.computeIfPresent(gram, (k, ids) -> {
+                ids.remove(userId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private Set<String> allGrams(String normalized) {
+        Set<String> grams = new HashSet<>(grams(normalized, 1));
+        grams.addAll(grams(normalized, GRAM_SIZE));
+        return grams;
+    }
+
+    private static Set<String> grams(String s, int size) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + size <= s.length(); i++) {
+            grams.add(s.substring(i, i + size));
+        }
+        return grams;
+    }
+
+    private static String normalize(String s) {
+        return s == null ? "" : s.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Candidate(Long userId, String nickname, boolean prefix) {
+    }
+
+    private record SortedEntry(String normalized, long userId) {
+    }
+}
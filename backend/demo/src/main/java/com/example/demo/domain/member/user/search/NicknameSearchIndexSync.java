@@ -0,0 +1,46 @@
+package com.example.demo.domain.member.user.search;
+
+import com.example.demo.domain.member.user.event.UserNicknameChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 닉네임 변경을 모든 인스턴스의 NicknameSearchIndex 에 반영한다.
+ * 변경한 인스턴스는 바로 반영하고, 나머지는 "userId:nickname" 메시지를 받아 반영한다 (자기 메시지를 다시 받아도 같은 값이라 무해).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NicknameSearchIndexSync implements MessageListener {
+
+    public static final String CHANNEL = "user:nickname:changed";
+
+    private final NicknameSearchIndex nicknameSearchIndex;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNicknameChanged(UserNicknameChangedEvent event) {
+        nicknameSearchIndex.put(event.getUserId(), event.getNickname());
+        String nickname = event.getNickname() != null ? event.getNickname() : "";
+        stringRedisTemplate.convertAndSend(CHANNEL, event.getUserId() + ":" + nickname);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            log.warn("닉네임 색인 동기화 메시지 형식 오류: {}", body);
+            return;
+        }
+        String nickname = body.substring(separator + 1);
+        nicknameSearchIndex.put(Long.valueOf(body.substring(0, separator)), nickname.isEmpty() ? null : nickname);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.demo.domain.member.user.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import com.example.demo.domain.member.user.entity.User;
+import com.example.demo.domain.member.user.entity.UserEsDocument;
+import com.example.demo.domain.member.user.entity.UserSearchOutbox;
+import com.example.demo.domain.member.user.repository.UserRepository;
+import com.example.demo.domain.member.user.repository.UserSearchOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * user_search_outbox 를 주기적으로 읽어 Elasticsearch 에 _bulk 로 반영한다.
+ * outbox 에는 userId 만 있고 색인 시점의 DB 값을 다시 읽으므로, 같은 유저의 변경이 여러 번 쌓여도 한 번만 보내고 순서가 꼬이지 않는다.
+ * 실패하면 outbox 를 남겨 둔 채 지수 백오프로 재시도하고, 여러 인스턴스 중 하나만 돌도록 분산 락을 잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEsBulkIndexer {
+
+    public static final String REINDEX_TARGET_KEY = "user:es:reindex-target";
+    private static final String LOCK_KEY = "lock:user:es:indexer";
+    private static final long BASE_BACKOFF_MS = 1000;
+    private static final long MAX_BACKOFF_MS = 60_000;
+
+    private final UserSearchOutboxRepository outboxRepository;
+    private final UserRepository userRepository;
+    private final ElasticsearchClient elasticsearchClient;
+    private final RedissonClient redissonClient;
+
+    // @Scheduled 단일 스레드에서만 접근
+    private int consecutiveFailures = 0;
+    private long nextAttemptAt = 0;
+
+    @Scheduled(fixedDelayString = "${user.search.indexer.interval-ms:1000}")
+    public void flush() {
+        if (System.currentTimeMillis() < nextAttemptAt) {
+            return;
+        }
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            List<UserSearchOutbox> events = outboxRepository.findTop500ByOrderByIdAsc();
+            if (events.isEmpty()) {
+                return;
+            }
+
+            Set<Long> failedUserIds = sendBulk(events);
+            List<Long> doneIds = events.stream()
+                    .filter(e -> !failedUserIds.contains(e.getUserId()))
+                    .map(UserSearchOutbox::getId)
+                    .toList();
+            outboxRepository.deleteAllByIdInBatch(doneIds);
+
+            if (failedUserIds.isEmpty()) {
+                consecutiveFailures = 0;
+            } else {
+                backOff("일부 문서 색인 실패: " + failedUserIds);
+            }
+        } catch (IOException | ElasticsearchException e) {
+            backOff(e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Set<Long> sendBulk(List<UserSearchOutbox> events) throws IOException {
+        Set<Long> userIds = events.stream()
+                .map(UserSearchOutbox::getUserId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        // 재색인 중이면 새 인덱스에도 같이 기록해 복사 도중의 변경이 유실되지 않게 한다
+        List<String> targets = new ArrayList<>();
+        targets.add(UserEsIndexManager.INDEX);
+        String reindexTarget = redissonClient.<String>getBucket(REINDEX_TARGET_KEY).get();
+        if (reindexTarget != null) {
+            targets.add(reindexTarget);
+        }
+
+        BulkRequest.Builder bulk = new BulkRequest.Builder();
+        for (Long userId : userIds) {
+            User user = users.get(userId);
+            for (String index : targets) {
+                if (user == null || user.getNickname() == null) {
+                    bulk.operations(op -> op.delete(d -> d.index(index).id(String.valueOf(userId))));
+                } else {
+                    UserEsDocument doc = UserEsDocument.from(user);
+                    bulk.operations(op -> op.index(i -> i.index(index).id(doc.getId()).document(doc)));
+                }
+            }
+        }
+
+        BulkResponse response = elasticsearchClient.bulk(bulk.build());
+        if (!response.errors()) {
+            return Set.of();
+        }
+        return response.items().stream()
+                .filter(item -> item.error() != null)
+                .map(item -> Long.valueOf(item.id()))
+                .collect(Collectors.toSet());
+    }
+
+    private void backOff(String reason) {
+        consecutiveFailures++;
+        long delay = Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << Math.min(consecutiveFailures, 6));
+        nextAttemptAt = System.currentTimeMillis() + delay;
+        log.warn("user 색인 실패 ({}회 연속) - {}ms 후 재시도: {}", consecutiveFailures, delay, reason);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.domain.member.user.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.analysis.TokenChar;
+import com.example.demo.global.util.EsIndexAliases;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 닉네임 검색용 user 인덱스 관리.
+ * nickname 은 색인 시 1~10 글자 ngram 으로 쪼개고 검색어는 통째로(keyword) 비교하므로,
+ * 선행 와일드카드 없이 term 조회 한 번으로 부분 일치를 찾는다.
+ * 검색/색인은 모두 user 별칭(alias)으로 하고, 실제 인덱스는 user_{버전} 이름으로 만들어 재색인 시 별칭만 바꾼다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEsIndexManager {
+
+    public static final String INDEX = "user";
+    public static final int NGRAM_MIN = 1;
+    // 닉네임 대부분이 10자 이하 - 더 긴 검색어는 10자 조각 여러 개로 찾는다 (ElasticsearchNicknameSearchEngine)
+    public static final int NGRAM_MAX = 10;
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final EsIndexAliases esIndexAliases;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexIfAbsent() {
+        try {
+            // 별칭 또는 (별칭 도입 전의) user 인덱스가 이미 있으면 그대로 사용
+            if (!elasticsearchClient.indices().exists(e -> e.index(INDEX)).value()) {
+                String indexName = newVersionName();
+                createIndex(indexName);
+                swapAlias(indexName);
+                log.info("🔍 Elasticsearch 인덱스 생성: {} -> {}", INDEX, indexName);
+            }
+        } catch (IOException | ElasticsearchException e) {
+            log.error("Elasticsearch 인덱스 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    public void createIndex(String indexName) throws IOException {
+        elasticsearchClient.indices().create(c -> c
+                .index(indexName)
+                .settings(s -> s
+                        .maxNgramDiff(NGRAM_MAX - NGRAM_MIN)
+                        .analysis(a -> a
+                                .tokenizer("nickname_ngram", t -> t
+                                        .definition(d -> d.ngram(n -> n
+                                                .minGram(NGRAM_MIN)
+                                                .maxGram(NGRAM_MAX)
+                                                .tokenChars(TokenChar.Letter, TokenChar.Digit, TokenChar.Punctuation, TokenChar.Symbol))))
+                                .analyzer("nickname_ngram", an -> an
+                                        .custom(cu -> cu.tokenizer("nickname_ngram").filter("lowercase")))
+                                .analyzer("nickname_search", an -> an
+                                        .custom(cu -> cu.tokenizer("keyword").filter("lowercase")))))
+                .mappings(m -> m
+                        .properties("id", p -> p.keyword(k -> k))
+                        .properties("nickname", p -> p.text(t -> t
+                                .analyzer("nickname_ngram")
+                                .searchAnalyzer("nickname_search")
+                                .fields("keyword", f -> f.keyword(k -> k)))))
+        );
+    }
+
+    public String newVersionName() {
+        return esIndexAliases.newVersionName(INDEX);
+    }
+
+    public void swapAlias(String newIndex) throws IOException {
+        esIndexAliases.swapAlias(INDEX, newIndex);
+    }
+
+    public long sizeInBytes(String indexName) throws IOException {
+        return elasticsearchClient.indices().stats(s -> s.index(indexName))
+                .all().primaries().store().sizeInBytes();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.demo.domain.member.user.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import com.example.demo.domain.member.user.controller.dto.UserDto;
+import com.example.demo.domain.member.user.entity.UserEsDocument;
+import com.example.demo.domain.member.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * user 테이블 전체를 id 순으로 나눠 읽어 새 버전 인덱스에 채운 뒤 user 별칭을 옮긴다.
+ * 복사하는 동안의 변경은 UserEsBulkIndexer 가 새 인덱스에도 같이 기록하고,
+ * 복사는 create 로만 넣어 그보다 최신인 문서를 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEsReindexJob {
+
+    private static final String LOCK_KEY = "lock:user:es:reindex";
+    private static final int CHUNK_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final UserEsIndexManager indexManager;
+    private final ElasticsearchClient elasticsearchClient;
+    private final RedissonClient redissonClient;
+
+    public void reindexAsync() {
+        CompletableFuture.runAsync(() -> {
+            try {
+                reindex();
+            } catch (Exception e) {
+                log.error("user 재색인 실패", e);
+            }
+        });
+    }
+
+    public String reindex() throws IOException {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            throw new IllegalStateException("이미 재색인이 진행 중입니다.");
+        }
+        RBucket<String> target = redissonClient.getBucket(UserEsBulkIndexer.REINDEX_TARGET_KEY);
+        try {
+            long start = System.currentTimeMillis();
+            String newIndex = indexManager.newVersionName();
+            indexManager.createIndex(newIndex);
+            target.set(newIndex);
+
+            long copied = copyUsers(newIndex);
+            elasticsearchClient.indices().refresh(r -> r.index(newIndex));
+            indexManager.swapAlias(newIndex);
+
+            log.info("🔍 user 재색인 완료: {} ({}건, {}ms)", newIndex, copied, System.currentTimeMillis() - start);
+            return newIndex;
+        } finally {
+            target.delete();
+            lock.unlock();
+        }
+    }
+
+    private long copyUsers(String index) throws IOException {
+        long copied = 0;
+        long lastId = 0L;
+        List<UserDto> chunk;
+        do {
+            chunk = userRepository.findNicknameChunkAfter(lastId, PageRequest.of(0, CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            BulkRequest.Builder bulk = new BulkRequest.Builder();
+            for (UserDto user : chunk) {
+                if (user.getNickname() != null) {
+                    UserEsDocument doc = new UserEsDocument(String.valueOf(user.getId()), user.getNickname());
+                    bulk.operations(op -> op.create(c -> c.index(index).id(doc.getId()).document(doc)));
+                }
+                lastId = user.getId();
+            }
+
+            BulkResponse response = elasticsearchClient.bulk(bulk.build());
+            if (response.errors()) {
+                // 409 는 bulk indexer 가 이미 최신 값을 넣은 경우
+                long failed = response.items().stream()
+                        .filter(item -> item.error() != null && item.status() != 409)
+                        .count();
+                if (failed > 0) {
+                    throw new IllegalStateException("재색인 중 문서 " + failed + "건 실패 (lastId=" + lastId + ")");
+                }
+            }
+            copied += chunk.size();
+        } while (chunk.size() == CHUNK_SIZE);
+        return copied;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.domain.member.user.search;
+
+import com.example.demo.domain.member.user.entity.UserSearchOutbox;
+import com.example.demo.domain.member.user.event.UserNicknameChangedEvent;
+import com.example.demo.domain.member.user.repository.UserSearchOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UserSearchOutboxWriter {
+
+    private final UserSearchOutboxRepository outboxRepository;
+
+    // 동기 리스너 - 닉네임 변경과 같은 트랜잭션에서 outbox 가 기록된다
+    @EventListener
+    public void onNicknameChanged(UserNicknameChangedEvent event) {
+        outboxRepository.save(UserSearchOutbox.builder()
+                .userId(event.getUserId())
+                .build());
+    }
+}
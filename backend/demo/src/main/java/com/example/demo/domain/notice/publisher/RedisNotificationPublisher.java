@@ -1,15 +1,27 @@
 package com.example.demo.domain.notice.publisher;
+import com.example.demo.global.messaging.RoutingEnvelope;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
 @Component
 @RequiredArgsConstructor
 public class RedisNotificationPublisher {
 
+    // 이미 DB 에 저장된 알림을 여러 수신자에게 한 번에 실시간 전달하는 채널 (route = 쉼표로 이은 수신자 id)
+    public static final String BATCH_CHANNEL = "notification-batch-channel";
+
     private final StringRedisTemplate stringRedisTemplate;
 
     public void publish(String channel, String message) {
         stringRedisTemplate.convertAndSend(channel, message);
     }
+
+    public void publishBatch(Collection<Long> receiverIds, String message) {
+        String route = receiverIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        stringRedisTemplate.convertAndSend(BATCH_CHANNEL, RoutingEnvelope.wrap(route, message));
+    }
 }
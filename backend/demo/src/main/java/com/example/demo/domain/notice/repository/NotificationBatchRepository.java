@@ -0,0 +1,54 @@
+package com.example.demo.domain.notice.repository;
+
+import com.example.demo.domain.notice.message.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 같은 내용을 여러 수신자에게 남기는 알림 저장.
+ * notification 의 id 가 IDENTITY 라 saveAll 은 행마다 INSERT 가 나가므로,
+ * multi-row INSERT 한 문장(최대 CHUNK_SIZE 행)으로 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String INSERT_PREFIX =
+            "INSERT INTO notification (receiver_id, sender_id, type, sender_nickname, data, is_read, created_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, false, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 저장한 행 수
+    public int insertForReceivers(Collection<Long> receiverIds, NotificationType type, Long senderId,
+                                  String senderNickname, String dataJson) {
+        List<Long> receivers = new ArrayList<>(receiverIds);
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+        for (int from = 0; from < receivers.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = receivers.subList(from, Math.min(from + CHUNK_SIZE, receivers.size()));
+
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+            List<Object> args = new ArrayList<>(chunk.size() * 6);
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? ROW : ", " + ROW);
+                args.add(chunk.get(i));
+                args.add(senderId);
+                args.add(type.name());
+                args.add(senderNickname);
+                args.add(dataJson);
+                args.add(createdAt);
+            }
+            inserted += jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.domain.notice.subscriber;
+
+import com.example.demo.domain.notice.websocket.NotificationWebSocketHandler;
+import com.example.demo.global.messaging.RoutingEnvelope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+
+/**
+ * 여러 수신자에게 같은 알림 - 수신자 목록은 봉투에, 본문은 TextMessage 하나로 재사용한다.
+ * DB 에는 발행 전에 이미 저장했으므로 이 인스턴스에 연결된 세션에만 보내고 없으면 넘어간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisNotificationBatchSubscriber implements MessageListener {
+
+    private final NotificationWebSocketHandler webSocketHandler;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        RoutingEnvelope.Envelope envelope = RoutingEnvelope.unwrap(message.getBody());
+        if (!envelope.hasRoute()) {
+            log.warn("수신자 없는 일괄 알림 무시");
+            return;
+        }
+        TextMessage textMessage = new TextMessage(envelope.payload());
+        for (String userId : envelope.route().split(",")) {
+            webSocketHandler.sendIfConnected(userId, textMessage);
+        }
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -15,12 +17,12 @@ public class RedisNotificationSubscriber implements MessageListener {
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
-        String payload = new String(message.getBody());
-        String channel = new String(message.getChannel()); // "notification:1"
-        String userId = channel.replace("notification:", "");
-
+        // 수신자는 채널 이름에 있으므로 본문은 디코딩만 한 번 하고 그대로 전달
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8); // "notification:1"
+        String userId = channel.substring("notification:".length());
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
 
-        log.info("📡 Redis 수신: {}", new String(message.getBody()));
+        log.info("📡 Redis 수신: userId={}", userId);
         webSocketHandler.sendMessageToUser(userId, payload);
     }
 }
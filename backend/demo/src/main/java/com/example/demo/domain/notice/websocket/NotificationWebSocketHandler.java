@@ -1,10 +1,10 @@
 package com.example.demo.domain.notice.websocket;
 
 import com.example.demo.domain.notice.entity.Notification;
-import com.example.demo.domain.notice.message.NotificationMessage;
 import com.example.demo.domain.notice.message.NotificationType;
 import com.example.demo.domain.notice.repository.NotificationRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -79,15 +79,30 @@ public class NotificationWebSocketHandler implements WebSocketHandler {
         }
     }
 
+    // 이미 저장된 알림의 실시간 전달 - 세션이 없거나 실패해도 DB 에 다시 저장하지 않는다
+    public void sendIfConnected(String userId, TextMessage message) {
+        WebSocketSession session = sessions.get(userId);
+        if (session == null || !session.isOpen()) {
+            return;
+        }
+        try {
+            session.sendMessage(message);
+        } catch (Exception e) {
+            log.warn("❌ 일괄 알림 WebSocket 전송 실패: {}", userId, e);
+        }
+    }
+
+    // 트리로 한 번만 파싱하고 data 는 다시 직렬화하지 않고 원문 그대로 저장
     private void saveNotificationToDb(String userId, String messageJson) throws JsonProcessingException {
-        NotificationMessage parsed = objectMapper.readValue(messageJson, NotificationMessage.class);
+        JsonNode parsed = objectMapper.readTree(messageJson);
+        JsonNode data = parsed.get("data");
 
         Notification notification = Notification.builder()
-                .receiverId(parsed.getReceiverId())
-                .senderId(parsed.getSenderId())
-                .senderNickname(parsed.getSenderNickname())
-                .type(NotificationType.valueOf(parsed.getType().name()))
-                .data(objectMapper.writeValueAsString(parsed.getData()))
+                .receiverId(longOrNull(parsed, "receiverId"))
+                .senderId(longOrNull(parsed, "senderId"))
+                .senderNickname(parsed.path("senderNickname").asText(null))
+                .type(NotificationType.valueOf(parsed.get("type").asText()))
+                .data(data != null ? data.toString() : "null")
                 .isRead(false)
                 .createdAt(LocalDateTime.now())
                 .build();
@@ -97,6 +112,11 @@ public class NotificationWebSocketHandler implements WebSocketHandler {
     }
 
 
+    private static Long longOrNull(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value != null && !value.isNull() ? value.asLong() : null;
+    }
+
     private String getUserIdFromQuery(WebSocketSession session) {
         String query = session.getUri().getQuery(); // ex: userId=123
         if (query != null && query.startsWith("userId=")) {
@@ -2,23 +2,24 @@ package com.example.demo.domain.post.comment.controller;
 
 import com.example.demo.domain.post.comment.service.CommentService;
 import com.example.demo.domain.post.like.service.CommentLikeService;
+import com.example.demo.domain.post.like.service.LikerService;
 import com.example.demo.domain.post.comment.controller.dto.CommentCreateRequest;
 import com.example.demo.domain.post.comment.controller.dto.CommentLikeResponse;
-import com.example.demo.domain.post.comment.controller.dto.CommentResponse;
+import com.example.demo.domain.post.comment.controller.dto.CommentPageResponse;
 import com.example.demo.domain.post.comment.controller.dto.CommentUpdateRequest;
+import com.example.demo.domain.post.post.controller.dto.LikerPageResponse;
 import com.example.demo.global.auth.jwt.JwtAuthentication;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/comments")
 @RequiredArgsConstructor
 public class CommentController {
     private final CommentLikeService commentLikeService;
     private final CommentService commentService;
+    private final LikerService likerService;
 
     @PostMapping
     public ResponseEntity<Long> createComment(
@@ -28,12 +29,26 @@ public class CommentController {
         return ResponseEntity.ok(commentService.createComment(auth.getUserId(), request));
     }
 
+    // 최상위 댓글 페이지 (cursor = 이전 페이지의 nextCursor)
     @GetMapping("/{postId}")
-    public ResponseEntity<List<CommentResponse>> getComments(
+    public ResponseEntity<CommentPageResponse> getComments(
             @PathVariable Long postId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + CommentService.DEFAULT_PAGE_SIZE) int size,
+            JwtAuthentication auth
+    ) {
+        return ResponseEntity.ok(commentService.getComments(postId, auth.getUserId(), cursor, size));
+    }
+
+    // 답글 페이지
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CommentPageResponse> getReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + CommentService.DEFAULT_PAGE_SIZE) int size,
             JwtAuthentication auth
     ) {
-        return ResponseEntity.ok(commentService.getComments(postId, auth.getUserId()));
+        return ResponseEntity.ok(commentService.getReplies(commentId, auth.getUserId(), cursor, size));
     }
 
     @PutMapping("/{commentId}")
@@ -63,4 +78,15 @@ public class CommentController {
         CommentLikeResponse response = commentLikeService.toggleLike(auth.getUserId(), commentId);
         return ResponseEntity.ok(response);
     }
+
+    // 댓글 좋아요 누른 사람 목록
+    @GetMapping("/{commentId}/likes")
+    public ResponseEntity<LikerPageResponse> getLikers(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + LikerService.DEFAULT_PAGE_SIZE) int size,
+            JwtAuthentication auth
+    ) {
+        return ResponseEntity.ok(likerService.getCommentLikers(commentId, auth.getUserId(), cursor, size));
+    }
 }
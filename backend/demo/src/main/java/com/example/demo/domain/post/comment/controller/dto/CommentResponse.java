@@ -4,7 +4,6 @@ import lombok.Builder;
 import lombok.Data;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Data
 @Builder
@@ -16,6 +15,6 @@ public class CommentResponse {
     private LocalDateTime modifiedAt;
     private Boolean likedByCurrentUser;
     private Integer likeCount;
-    private List<CommentResponse> children; // 대댓글 목록 (재귀 구조)
+    private Long replyCount;                // 답글 수 - 답글은 /comments/{commentId}/replies 로 따로 조회
     private Boolean isAuthor;
 }
@@ -0,0 +1,13 @@
+package com.example.demo.domain.post.comment.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 댓글 작성(+1)/삭제(-1 - 하위 답글 수) - storedCount 는 트랜잭션 시점 post.comment_count (Redis 카운터가 없을 때 시작값)
+@Getter
+@AllArgsConstructor
+public class CommentCountChangedEvent {
+    private Long postId;
+    private int delta;
+    private int storedCount;
+}
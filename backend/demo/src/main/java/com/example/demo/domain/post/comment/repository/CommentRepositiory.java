@@ -1,6 +1,7 @@
 package com.example.demo.domain.post.comment.repository;
 
 import com.example.demo.domain.post.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,7 +10,22 @@ import java.util.List;
 
 public interface CommentRepositiory extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.children WHERE c.post.postId = :postId")
-    List<Comment> findAllWithChildrenByPostId(@Param("postId") Long postId);
+    // 최상위 댓글 - (post_id, parent_id, id) 인덱스로 id 이후 size 건만 읽는다
+    @Query("SELECT c.id AS id, c.comment AS comment, a.id AS authorId, a.nickname AS authorNickname, " +
+            "c.modifiedDate AS modifiedDate, " +
+            "(SELECT COUNT(r) FROM Comment r WHERE r.parent.id = c.id) AS replyCount, " +
+            "(SELECT COUNT(l) FROM CommentLike l WHERE l.comment.id = c.id) AS likeCount " +
+            "FROM Comment c JOIN c.author a " +
+            "WHERE c.post.postId = :postId AND c.parent IS NULL AND c.id > :cursor ORDER BY c.id ASC")
+    List<CommentRow> findTopLevelPage(@Param("postId") Long postId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 답글 - parent_id FK 인덱스로 id 이후 size 건만 읽는다
+    @Query("SELECT c.id AS id, c.comment AS comment, a.id AS authorId, a.nickname AS authorNickname, " +
+            "c.modifiedDate AS modifiedDate, " +
+            "(SELECT COUNT(r) FROM Comment r WHERE r.parent.id = c.id) AS replyCount, " +
+            "(SELECT COUNT(l) FROM CommentLike l WHERE l.comment.id = c.id) AS likeCount " +
+            "FROM Comment c JOIN c.author a " +
+            "WHERE c.parent.id = :parentId AND c.id > :cursor ORDER BY c.id ASC")
+    List<CommentRow> findReplyPage(@Param("parentId") Long parentId, @Param("cursor") Long cursor, Pageable pageable);
 
 }
@@ -0,0 +1,20 @@
+package com.example.demo.domain.post.comment.repository;
+
+import java.time.LocalDateTime;
+
+// 댓글 목록 한 줄 - 작성자 닉네임/답글 수/좋아요 수를 조인 없이 한 번에 조회
+public interface CommentRow {
+    Long getId();
+
+    String getComment();
+
+    Long getAuthorId();
+
+    String getAuthorNickname();
+
+    LocalDateTime getModifiedDate();
+
+    Long getReplyCount();
+
+    Long getLikeCount();
+}
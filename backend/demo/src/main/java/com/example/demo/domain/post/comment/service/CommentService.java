@@ -6,39 +6,46 @@ import com.example.demo.domain.notice.message.NotificationMessage;
 import com.example.demo.domain.notice.message.NotificationType;
 import com.example.demo.domain.notice.producer.NotificationProducer;
 import com.example.demo.domain.post.comment.entity.Comment;
+import com.example.demo.domain.post.comment.event.CommentCountChangedEvent;
 import com.example.demo.domain.post.comment.repository.CommentRepositiory;
-import com.example.demo.domain.post.like.repository.CommentLikeRepository;
+import com.example.demo.domain.post.comment.repository.CommentRow;
+import com.example.demo.domain.post.like.service.LikedSetCache;
 import com.example.demo.domain.post.comment.controller.dto.CommentCreateRequest;
+import com.example.demo.domain.post.comment.controller.dto.CommentPageResponse;
 import com.example.demo.domain.post.comment.controller.dto.CommentResponse;
 import com.example.demo.domain.post.comment.controller.dto.CommentUpdateRequest;
 import com.example.demo.domain.post.post.entity.Post;
+import com.example.demo.domain.post.post.event.PostEngagementEvent;
 import com.example.demo.domain.post.post.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final CommentRepositiory commentRepository;
-    private final CommentLikeRepository likeRepository;
-    private final RedissonClient redissonClient;
+    private final LikedSetCache likedSetCache;
     private final NotificationProducer notificationProducer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StringRedisTemplate stringRedisTemplate;
 
     @Transactional
     public Long createComment(Long userId, CommentCreateRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자 없음"));
-        Post post = postRepository.findById(request.getPostId())
+        Post post = postRepository.findWithAuthorByPostId(request.getPostId())
                 .orElseThrow(() -> new RuntimeException("게시글 없음"));
 
         Comment comment = new Comment();
@@ -57,6 +64,8 @@ public class CommentService {
         } else {
             sendCommentNotification(comment, user);
         }
+        eventPublisher.publishEvent(new CommentCountChangedEvent(post.getPostId(), 1, post.getCommentCount()));
+        eventPublisher.publishEvent(new PostEngagementEvent(post.getPostId(), PostEngagementEvent.Type.COMMENT, !post.getAuthor().isPrivate(), userId));
 
         return comment.getId();
     }
@@ -98,13 +107,21 @@ public class CommentService {
 
     }
 
+    // 최상위 댓글만 id 순 keyset 페이지로, 답글은 답글 수만 내려주고 getReplies 로 따로 조회
     @Transactional(readOnly = true)
-    public List<CommentResponse> getComments(Long postId, Long userId) {
-        List<Comment> comments = commentRepository.findAllWithChildrenByPostId(postId);
-        return comments.stream()
-                .filter(c -> c.getParent() == null)
-                .map(c -> toResponse(c, userId))
-                .collect(Collectors.toList());
+    public CommentPageResponse getComments(Long postId, Long userId, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<CommentRow> rows = commentRepository.findTopLevelPage(
+                postId, cursor != null ? cursor : 0L, PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize, userId);
+    }
+
+    @Transactional(readOnly = true)
+    public CommentPageResponse getReplies(Long commentId, Long userId, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<CommentRow> rows = commentRepository.findReplyPage(
+                commentId, cursor != null ? cursor : 0L, PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize, userId);
     }
 
     @Transactional
@@ -124,29 +141,51 @@ public class CommentService {
         if (!comment.getAuthor().getId().equals(userId)) {
             throw new RuntimeException("삭제 권한 없음");
         }
+        // 답글은 cascade 로 같이 지워지므로 어차피 로딩되는 children 으로 함께 센다
+        int removed = countWithReplies(comment);
+        Post post = comment.getPost();
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(new CommentCountChangedEvent(post.getPostId(), -removed, post.getCommentCount()));
+    }
+
+    private int countWithReplies(Comment comment) {
+        int count = 1;
+        for (Comment child : comment.getChildren()) {
+            count += countWithReplies(child);
+        }
+        return count;
     }
 
-    public CommentResponse toResponse(Comment comment, Long userId) {
-        boolean liked = userId != null && likeRepository.existsByCommentIdAndUserId(comment.getId(), userId);
-        String redisKey = "comment:like:" + comment.getId();
-        int likeCount = redissonClient.getAtomicLong(redisKey).isExists()
-                ? (int) redissonClient.getAtomicLong(redisKey).get()
-                : comment.getLikes().size(); // fallback
-
-
-        return CommentResponse.builder()
-                .commentId(comment.getId())
-                .comment(comment.getComment())
-                .authorId(comment.getAuthor().getId())
-                .authorNickname(comment.getAuthor().getNickname())
-                .modifiedAt(comment.getModifiedDate())
-                .likedByCurrentUser(liked)
-                .likeCount(likeCount)
-                .children(comment.getChildren().stream()
-                        .map(c -> toResponse(c, userId))
-                        .collect(Collectors.toList()))
-                .isAuthor(comment.getAuthor().getId().equals(userId))
-                .build();
+    private CommentPageResponse toPage(List<CommentRow> rows, int pageSize, Long userId) {
+        boolean hasNext = rows.size() > pageSize;
+        List<CommentRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        if (page.isEmpty()) {
+            return new CommentPageResponse(List.of(), null, false);
+        }
+
+        List<Long> ids = page.stream().map(CommentRow::getId).toList();
+        Set<Long> liked = likedSetCache.likedCommentIds(userId, ids);
+        // 좋아요 토글 직후 값은 Redis 카운터가 최신이므로 MGET 한 번으로 덮어쓴다
+        List<String> counters = stringRedisTemplate.opsForValue().multiGet(
+                ids.stream().map(id -> "comment:like:" + id).toList());
+
+        List<CommentResponse> items = new ArrayList<>(page.size());
+        for (int i = 0; i < page.size(); i++) {
+            CommentRow row = page.get(i);
+            String counter = counters != null ? counters.get(i) : null;
+            items.add(CommentResponse.builder()
+                    .commentId(row.getId())
+                    .comment(row.getComment())
+                    .authorId(row.getAuthorId())
+                    .authorNickname(row.getAuthorNickname())
+                    .modifiedAt(row.getModifiedDate())
+                    .likedByCurrentUser(liked.contains(row.getId()))
+                    .likeCount(counter != null ? Integer.parseInt(counter) : row.getLikeCount().intValue())
+                    .replyCount(row.getReplyCount())
+                    .isAuthor(row.getAuthorId().equals(userId))
+                    .build());
+        }
+        Long nextCursor = hasNext ? ids.get(ids.size() - 1) : null;
+        return new CommentPageResponse(items, nextCursor, hasNext);
     }
 }
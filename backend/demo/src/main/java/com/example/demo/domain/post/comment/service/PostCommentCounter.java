@@ -0,0 +1,150 @@
+package com.example.demo.domain.post.comment.service;
+
+import com.example.demo.domain.post.comment.event.CommentCountChangedEvent;
+import com.example.demo.domain.post.post.repository.PostCommentCount;
+import com.example.demo.domain.post.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * 게시글별 댓글 수.
+ * 커밋 후 Redis 카운터(post:comment:{postId})에 INCRBY 로 반영하고, 바뀐 게시글 id 를 dirty set 에 모아
+ * 주기적으로 post.comment_count 에 덮어쓴다. 조회 쪽은 페이지 단위 MGET 한 번으로 최신 값을 얹고,
+ * 카운터가 없으면 comment_count 컬럼 값을 그대로 쓴다.
+ * 커밋 후 INCRBY 가 실패하면 값이 어긋난 채 남으므로, post_id 구간을 돌며 실제 댓글 수와 다른 게시글을 찾아 바로잡는다(reconcile).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCommentCounter {
+
+    private static final String KEY_PREFIX = "post:comment:";
+    private static final String DIRTY_KEY = "post:comment:dirty";
+    private static final String LOCK_KEY = "lock:post:comment:flush";
+    private static final int FLUSH_BATCH = 500;
+    private static final String RECONCILE_LOCK_KEY = "lock:post:comment:reconcile";
+    private static final String RECONCILE_CURSOR_KEY = "post:comment:reconcile:cursor";
+    private static final long RECONCILE_RANGE = 10_000; // 한 번에 확인하는 post_id 구간
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedissonClient redissonClient;
+    private final PostRepository postRepository;
+
+    public static String key(Long postId) {
+        return KEY_PREFIX + postId;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentCountChanged(CommentCountChangedEvent event) {
+        String key = key(event.getPostId());
+        // 카운터가 없으면 DB 값으로 시작 - SETNX 라 동시에 들어와도 한 번만 초기화된다
+        stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(event.getStoredCount()));
+        stringRedisTemplate.opsForValue().increment(key, event.getDelta());
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(event.getPostId()));
+    }
+
+    // Redis 에 카운터가 있는 게시글만 담아 반환
+    public Map<Long, Integer> liveCounts(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = new ArrayList<>(postIds);
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(ids.stream().map(PostCommentCounter::key).toList());
+        Map<Long, Integer> counts = new HashMap<>();
+        for (int i = 0; values != null && i < ids.size(); i++) {
+            if (values.get(i) != null) {
+                counts.put(ids.get(i), Integer.parseInt(values.get(i)));
+            }
+        }
+        return counts;
+    }
+
+    public static int resolve(Map<Long, Integer> liveCounts, Long postId, Integer storedCount) {
+        Integer live = liveCounts.get(postId);
+        if (live != null) {
+            return live;
+        }
+        return storedCount != null ? storedCount : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${post.comment-count.flush-interval-ms:10000}")
+    public void flush() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            List<String> batch;
+            while (!(batch = pop()).isEmpty()) {
+                flushBatch(batch);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 실제 댓글 수로 DB 를 고치고 Redis 카운터는 지워, 다음 댓글 이벤트가 고친 DB 값에서 다시 시작하게 한다
+    @Scheduled(fixedDelayString = "${post.comment-count.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        RLock lock = redissonClient.getLock(RECONCILE_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            Long maxPostId = postRepository.findMaxPostId();
+            if (maxPostId == null) {
+                return;
+            }
+            String cursor = stringRedisTemplate.opsForValue().get(RECONCILE_CURSOR_KEY);
+            long fromId = cursor != null ? Long.parseLong(cursor) : 0L;
+            if (fromId >= maxPostId) {
+                fromId = 0L; // 한 바퀴 다 돌았으면 처음부터
+            }
+            long toId = fromId + RECONCILE_RANGE;
+
+            List<PostCommentCount> mismatches = postRepository.findCommentCountMismatches(fromId, toId);
+            for (PostCommentCount mismatch : mismatches) {
+                postRepository.updateCommentCount(mismatch.getPostId(), mismatch.getCommentCount().intValue());
+                stringRedisTemplate.delete(key(mismatch.getPostId()));
+            }
+            stringRedisTemplate.opsForValue().set(RECONCILE_CURSOR_KEY, String.valueOf(toId));
+            if (!mismatches.isEmpty()) {
+                log.info("댓글 수 보정: postId ({}, {}] 구간 {}건", fromId, toId, mismatches.size());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<String> pop() {
+        List<String> ids = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, FLUSH_BATCH);
+        return ids != null ? ids : List.of();
+    }
+
+    private void flushBatch(List<String> batch) {
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(
+                batch.stream().map(id -> KEY_PREFIX + id).toList());
+        for (int i = 0; i < batch.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            if (value == null) {
+                continue;
+            }
+            try {
+                postRepository.updateCommentCount(Long.valueOf(batch.get(i)), Integer.parseInt(value));
+            } catch (RuntimeException e) {
+                // 남은 id 는 다시 dirty set 에 넣고 다음 실행에서 이어서 반영
+                stringRedisTemplate.opsForSet().add(DIRTY_KEY, batch.subList(i, batch.size()).toArray(String[]::new));
+                log.warn("댓글 수 DB 반영 실패 - 다음 실행에서 재시도: postId={}", batch.get(i), e);
+                return;
+            }
+        }
+    }
+}
@@ -1,14 +1,12 @@
 package com.example.demo.domain.post.feed.controller;
 
+import com.example.demo.domain.post.feed.controller.dto.UserFeedPageResponse;
 import com.example.demo.domain.post.feed.controller.dto.UserFeedResponse;
 import com.example.demo.domain.post.feed.service.UserFeedService;
 import com.example.demo.global.auth.jwt.JwtAuthentication;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestHeader;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
@@ -24,6 +22,17 @@ public class UserFeedController {
         return ResponseEntity.ok(userFeedService.userFeedList(showUserId, auth.getUserId()));
     }
 
+    // 프로필 그리드 페이지 조회 - 응답의 nextCursor 를 다음 요청의 cursor 로 넘긴다
+    @GetMapping("/grid")
+    public ResponseEntity<UserFeedPageResponse> showFeedPage(
+            @RequestHeader Long showUserId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + UserFeedService.DEFAULT_PAGE_SIZE) int size,
+            JwtAuthentication auth
+    ) {
+        return ResponseEntity.ok(userFeedService.userFeedPage(showUserId, auth.getUserId(), cursor, size));
+    }
+
     @GetMapping("/count")
     public ResponseEntity<Integer> getFeedCount(@RequestHeader Long showUserId) {
         return ResponseEntity.ok(userFeedService.userFeedCount(showUserId));
@@ -0,0 +1,14 @@
+package com.example.demo.domain.post.feed.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class UserFeedPageResponse {
+    private List<UserFeedResponse> items;
+    private Long nextCursor;   // 다음 요청의 cursor (마지막 post_id), 더 없으면 null
+    private boolean hasNext;
+}
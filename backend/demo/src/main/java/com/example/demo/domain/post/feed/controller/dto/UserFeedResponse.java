@@ -8,4 +8,5 @@ import lombok.Data;
 public class UserFeedResponse {
     private Long postId;
     private String imageUrl;
+    private Integer commentCount;
 }
@@ -2,32 +2,66 @@ package com.example.demo.domain.post.feed.service;
 
 import com.example.demo.domain.member.follow.repository.FollowRepository;
 import com.example.demo.domain.member.user.repository.UserRepository;
+import com.example.demo.domain.post.comment.service.PostCommentCounter;
+import com.example.demo.domain.post.feed.controller.dto.UserFeedPageResponse;
 import com.example.demo.domain.post.feed.controller.dto.UserFeedResponse;
+import com.example.demo.domain.post.post.repository.PostGridItem;
 import com.example.demo.domain.post.post.repository.PostRepository;
 import com.example.demo.global.exception.AccessDeniedException;
 import com.example.demo.global.util.Util;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class UserFeedService {
+    public static final int DEFAULT_PAGE_SIZE = 30;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int LEGACY_MAX_ITEMS = 300; // 페이지 없는 /user/feed 는 최신 게시글부터 이만큼만
+
     private final PostRepository postRepository;
+    private final PostCommentCounter postCommentCounter;
     private final Util util;
 
     public List<UserFeedResponse> userFeedList(Long showUserId, Long requestUserId) {
         if (!util.authorizeCheck(showUserId, requestUserId)) {
             throw new AccessDeniedException("게시글 조회 권한이 없습니다");
         }
-        return postRepository.findByAuthor_Id(showUserId).stream()
-                .map(post -> new UserFeedResponse(post.getPostId(), post.getFirstImageUrl()))
-                .toList();
+        return toResponses(postRepository.findGridPage(showUserId, Long.MAX_VALUE, PageRequest.of(0, LEGACY_MAX_ITEMS)));
+    }
+
+    // cursor 가 없으면 최신 게시글부터, 있으면 그 post_id 다음부터 size 개
+    public UserFeedPageResponse userFeedPage(Long showUserId, Long requestUserId, Long cursor, int size) {
+        if (!util.authorizeCheck(showUserId, requestUserId)) {
+            throw new AccessDeniedException("게시글 조회 권한이 없습니다");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<PostGridItem> rows = postRepository.findGridPage(
+                showUserId,
+                cursor != null ? cursor : Long.MAX_VALUE,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<UserFeedResponse> items = toResponses(rows.stream().limit(pageSize).toList());
+        Long nextCursor = hasNext ? items.get(items.size() - 1).getPostId() : null;
+        return new UserFeedPageResponse(items, nextCursor, hasNext);
     }
 
 
     public Integer userFeedCount(Long showUserId) {
         return postRepository.countByAuthor_Id(showUserId);
     }
+
+    // 댓글 수는 페이지 단위 MGET 한 번으로 최신 값을 얹는다
+    private List<UserFeedResponse> toResponses(List<PostGridItem> items) {
+        Map<Long, Integer> commentCounts = postCommentCounter.liveCounts(items.stream().map(PostGridItem::getPostId).toList());
+        return items.stream()
+                .map(item -> new UserFeedResponse(item.getPostId(), item.getFirstImageUrl(),
+                        PostCommentCounter.resolve(commentCounts, item.getPostId(), item.getCommentCount())))
+                .toList();
+    }
 }
@@ -0,0 +1,34 @@
+package com.example.demo.domain.post.hashtag.controller;
+
+import com.example.demo.domain.post.feed.controller.dto.UserFeedPageResponse;
+import com.example.demo.domain.post.hashtag.controller.dto.HashtagResponse;
+import com.example.demo.domain.post.hashtag.service.HashtagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/hashtags")
+@RequiredArgsConstructor
+public class HashtagController {
+
+    private final HashtagService hashtagService;
+
+    // #태그 게시글 목록 (최신순) - 응답의 nextCursor 를 다음 요청의 cursor 로 넘긴다
+    @GetMapping("/{tag}/posts")
+    public ResponseEntity<UserFeedPageResponse> getPostsByTag(
+            @PathVariable String tag,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + HashtagService.DEFAULT_PAGE_SIZE) int size
+    ) {
+        return ResponseEntity.ok(hashtagService.getPostsByTag(tag, cursor, size));
+    }
+
+    // 태그 자동완성
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<HashtagResponse>> autocomplete(@RequestParam String prefix) {
+        return ResponseEntity.ok(hashtagService.autocomplete(prefix));
+    }
+}
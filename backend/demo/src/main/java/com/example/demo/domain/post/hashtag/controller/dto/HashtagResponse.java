@@ -0,0 +1,11 @@
+package com.example.demo.domain.post.hashtag.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class HashtagResponse {
+    private String tag;
+    private long postCount;
+}
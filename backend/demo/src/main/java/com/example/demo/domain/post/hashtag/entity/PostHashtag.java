@@ -0,0 +1,32 @@
+package com.example.demo.domain.post.hashtag.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 해시태그 역색인 - (tag, post_id) 순서의 유니크 인덱스로 태그별 최신순 조회
+@Entity
+@Table(name = "post_hashtag",
+        uniqueConstraints = @UniqueConstraint(name = "uk_post_hashtag_tag_post", columnNames = {"tag", "post_id"}),
+        indexes = @Index(name = "idx_post_hashtag_post", columnList = "post_id"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostHashtag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50) // HashtagExtractor.MAX_TAG_LENGTH
+    private String tag;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    public PostHashtag(String tag, Long postId) {
+        this.tag = tag;
+        this.postId = postId;
+    }
+}
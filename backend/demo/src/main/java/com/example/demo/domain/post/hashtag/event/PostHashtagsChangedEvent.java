@@ -0,0 +1,15 @@
+package com.example.demo.domain.post.hashtag.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public class PostHashtagsChangedEvent {
+    private Long postId;
+    private Set<String> added;
+    private Set<String> removed;
+    private boolean publicPost; // 비공개 계정 게시글은 Redis 태그 피드/자동완성/게시글 수에 넣지 않는다
+}
@@ -0,0 +1,29 @@
+package com.example.demo.domain.post.hashtag.repository;
+
+import com.example.demo.domain.post.hashtag.entity.PostHashtag;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostHashtagRepository extends JpaRepository<PostHashtag, Long> {
+
+    @Query("SELECT h.tag FROM PostHashtag h WHERE h.postId = :postId")
+    List<String> findTagsByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT h.postId FROM PostHashtag h WHERE h.tag = :tag AND h.postId < :cursor ORDER BY h.postId DESC")
+    List<Long> findPostIdsByTag(@Param("tag") String tag, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 작성자의 삭제되지 않은 게시글 태그 - 공개 범위가 바뀌면 Redis 반영을 다시 한다
+    @Query("SELECT h FROM PostHashtag h WHERE h.postId IN " +
+            "(SELECT p.postId FROM Post p WHERE p.author.id = :authorId AND p.deleted = false)")
+    List<PostHashtag> findByAuthorId(@Param("authorId") Long authorId);
+
+    @Modifying
+    @Query("DELETE FROM PostHashtag h WHERE h.postId = :postId AND h.tag IN :tags")
+    int deleteByPostIdAndTags(@Param("postId") Long postId, @Param("tags") Collection<String> tags);
+}
@@ -0,0 +1,40 @@
+package com.example.demo.domain.post.hashtag.service;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 본문에서 #태그 추출 (문자/숫자/_ 만, 소문자로 통일) - MAX_TAG_LENGTH 보다 긴 태그는 잘라 쓰지 않고 건너뛴다
+public final class HashtagExtractor {
+
+    public static final int MAX_TAG_LENGTH = 50; // post_hashtag.tag varchar(50)
+    public static final int MAX_TAGS_PER_POST = 30;
+    private static final Pattern HASHTAG = Pattern.compile("#([\\p{L}\\p{N}_]+)");
+
+    private HashtagExtractor() {
+    }
+
+    public static Set<String> extract(String content) {
+        Set<String> tags = new LinkedHashSet<>();
+        if (content == null) {
+            return tags;
+        }
+        Matcher matcher = HASHTAG.matcher(content);
+        while (matcher.find() && tags.size() < MAX_TAGS_PER_POST) {
+            if (matcher.group(1).length() <= MAX_TAG_LENGTH) {
+                tags.add(normalize(matcher.group(1)));
+            }
+        }
+        return tags;
+    }
+
+    public static String normalize(String tag) {
+        String trimmed = tag.trim();
+        if (trimmed.startsWith("#")) {
+            trimmed = trimmed.substring(1);
+        }
+        return trimmed.toLowerCase(Locale.ROOT);
+    }
+}
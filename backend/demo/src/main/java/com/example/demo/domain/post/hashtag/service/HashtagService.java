@@ -0,0 +1,184 @@
+package com.example.demo.domain.post.hashtag.service;
+
+import com.example.demo.domain.member.user.event.UserPrivacyChangedEvent;
+import com.example.demo.domain.post.comment.service.PostCommentCounter;
+import com.example.demo.domain.post.feed.controller.dto.UserFeedPageResponse;
+import com.example.demo.domain.post.feed.controller.dto.UserFeedResponse;
+import com.example.demo.domain.post.hashtag.controller.dto.HashtagResponse;
+import com.example.demo.domain.post.hashtag.entity.PostHashtag;
+import com.example.demo.domain.post.hashtag.event.PostHashtagsChangedEvent;
+import com.example.demo.domain.post.hashtag.repository.PostHashtagRepository;
+import com.example.demo.domain.post.post.repository.PostGridItem;
+import com.example.demo.domain.post.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 해시태그 역색인.
+ * post_hashtag 테이블이 원본이고, Redis 에는 태그별 최근 게시글(score = postId) sorted set 과
+ * 자동완성용 태그 이름(lex)/게시글 수 sorted set 을 커밋 후에 반영한다.
+ * 태그 페이지는 Redis 에서 읽고, 잘려 나간 오래된 구간은 (tag, post_id) 인덱스로 이어서 읽는다.
+ * 트렌딩과 마찬가지로 비공개 계정의 게시글은 Redis 쪽(태그 피드/자동완성/게시글 수)에 넣지 않고,
+ * 계정 공개 범위가 바뀌면 그 사용자의 게시글 태그를 한꺼번에 넣거나 뺀다.
+ */
+@Service
+@RequiredArgsConstructor
+public class HashtagService {
+
+    public static final int DEFAULT_PAGE_SIZE = 30;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String POSTS_PREFIX = "hashtag:posts:";
+    private static final String NAMES_KEY = "hashtag:names";   // 모두 score 0 - ZRANGEBYLEX 접두사 검색용
+    private static final String COUNT_KEY = "hashtag:count";   // 태그별 게시글 수
+    private static final int MAX_CACHED_POSTS_PER_TAG = 10_000;
+    private static final int AUTOCOMPLETE_CANDIDATES = 50;
+    private static final int AUTOCOMPLETE_LIMIT = 10;
+
+    private final PostHashtagRepository postHashtagRepository;
+    private final PostRepository postRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostCommentCounter postCommentCounter;
+
+    // 게시글 작성/수정 트랜잭션 안에서 호출
+    @Transactional
+    public void replaceTags(Long postId, String content, boolean publicPost) {
+        Set<String> next = HashtagExtractor.extract(content);
+        Set<String> current = new HashSet<>(postHashtagRepository.findTagsByPostId(postId));
+
+        Set<String> added = new LinkedHashSet<>(next);
+        added.removeAll(current);
+        Set<String> removed = new HashSet<>(current);
+        removed.removeAll(next);
+
+        if (!removed.isEmpty()) {
+            postHashtagRepository.deleteByPostIdAndTags(postId, removed);
+        }
+        postHashtagRepository.saveAll(added.stream().map(tag -> new PostHashtag(tag, postId)).toList());
+
+        if (!added.isEmpty() || !removed.isEmpty()) {
+            eventPublisher.publishEvent(new PostHashtagsChangedEvent(postId, added, removed, publicPost));
+        }
+    }
+
+    // 게시글 삭제 - 테이블 행은 PostPurger 가 지우고 Redis 에서는 바로 뺀다
+    @Transactional(readOnly = true)
+    public void unindex(Long postId, boolean publicPost) {
+        Set<String> tags = new HashSet<>(postHashtagRepository.findTagsByPostId(postId));
+        if (!tags.isEmpty()) {
+            eventPublisher.publishEvent(new PostHashtagsChangedEvent(postId, Set.of(), tags, publicPost));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHashtagsChanged(PostHashtagsChangedEvent event) {
+        if (event.isPublicPost()) {
+            apply(event.getPostId(), event.getAdded(), event.getRemoved());
+        }
+    }
+
+    // 비공개로 바뀌면 그 사용자의 게시글을 Redis 에서 빼고, 공개로 바뀌면 다시 넣는다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPrivacyChanged(UserPrivacyChangedEvent event) {
+        Map<Long, Set<String>> tagsByPost = postHashtagRepository.findByAuthorId(event.getUserId()).stream()
+                .collect(Collectors.groupingBy(PostHashtag::getPostId, Collectors.mapping(PostHashtag::getTag, Collectors.toSet())));
+        tagsByPost.forEach((postId, tags) -> {
+            if (event.isPrivate()) {
+                apply(postId, Set.of(), tags);
+            } else {
+                apply(postId, tags, Set.of());
+            }
+        });
+    }
+
+    private void apply(Long postId, Collection<String> added, Collection<String> removed) {
+        String member = String.valueOf(postId);
+        for (String tag : added) {
+            String key = POSTS_PREFIX + tag;
+            stringRedisTemplate.opsForZSet().add(key, member, postId);
+            stringRedisTemplate.opsForZSet().removeRange(key, 0, -(MAX_CACHED_POSTS_PER_TAG + 1));
+            stringRedisTemplate.opsForZSet().add(NAMES_KEY, tag, 0);
+            stringRedisTemplate.opsForZSet().incrementScore(COUNT_KEY, tag, 1);
+        }
+        for (String tag : removed) {
+            stringRedisTemplate.opsForZSet().remove(POSTS_PREFIX + tag, member);
+            Double count = stringRedisTemplate.opsForZSet().incrementScore(COUNT_KEY, tag, -1);
+            if (count != null && count <= 0) {
+                stringRedisTemplate.opsForZSet().remove(COUNT_KEY, tag);
+                stringRedisTemplate.opsForZSet().remove(NAMES_KEY, tag);
+            }
+        }
+    }
+
+    // cursor 보다 작은 postId 부터 최신순으로 size 개
+    @Transactional(readOnly = true)
+    public UserFeedPageResponse getPostsByTag(String rawTag, Long cursor, int size) {
+        String tag = HashtagExtractor.normalize(rawTag);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long before = cursor != null ? cursor : Long.MAX_VALUE;
+
+        List<Long> postIds = new ArrayList<>();
+        Set<String> cached = stringRedisTemplate.opsForZSet().reverseRangeByScore(
+                POSTS_PREFIX + tag, Double.NEGATIVE_INFINITY, before - 1, 0, pageSize + 1);
+        if (cached != null) {
+            cached.forEach(id -> postIds.add(Long.valueOf(id)));
+        }
+        if (postIds.size() <= pageSize) {
+            // 캐시 범위를 벗어난 오래된 구간은 DB 인덱스로 이어 읽기
+            long dbCursor = postIds.isEmpty() ? before : postIds.get(postIds.size() - 1);
+            postIds.addAll(postHashtagRepository.findPostIdsByTag(tag, dbCursor,
+                    PageRequest.of(0, pageSize + 1 - postIds.size())));
+        }
+
+        boolean hasNext = postIds.size() > pageSize;
+        List<Long> page = postIds.subList(0, Math.min(pageSize, postIds.size()));
+        Map<Long, PostGridItem> items = page.isEmpty() ? Map.of() : postRepository.findPublicGridItemsByIds(page).stream()
+                .collect(Collectors.toMap(PostGridItem::getPostId, Function.identity()));
+
+        Map<Long, Integer> commentCounts = postCommentCounter.liveCounts(items.keySet());
+        List<UserFeedResponse> responses = page.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)   // 삭제/비공개 게시글 제외
+                .map(item -> new UserFeedResponse(item.getPostId(), item.getFirstImageUrl(),
+                        PostCommentCounter.resolve(commentCounts, item.getPostId(), item.getCommentCount())))
+                .toList();
+        Long nextCursor = hasNext ? page.get(page.size() - 1) : null;
+        return new UserFeedPageResponse(responses, nextCursor, hasNext);
+    }
+
+    // 접두사로 시작하는 태그를 게시글 수 많은 순으로
+    public List<HashtagResponse> autocomplete(String prefix) {
+        String normalized = HashtagExtractor.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        Set<String> candidates = stringRedisTemplate.opsForZSet().rangeByLex(NAMES_KEY,
+                Range.closed(normalized, normalized + Character.MAX_VALUE),
+                Limit.limit().count(AUTOCOMPLETE_CANDIDATES));
+        if (candidates == null || candidates.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> tags = new ArrayList<>(candidates);
+        List<Double> counts = stringRedisTemplate.opsForZSet().score(COUNT_KEY, tags.toArray());
+        List<HashtagResponse> result = new ArrayList<>();
+        for (int i = 0; i < tags.size(); i++) {
+            Double count = counts == null ? null : counts.get(i);
+            result.add(new HashtagResponse(tags.get(i), count == null ? 0 : count.longValue()));
+        }
+        result.sort(Comparator.comparingLong(HashtagResponse::getPostCount).reversed()
+                .thenComparing(HashtagResponse::getTag));
+        return result.subList(0, Math.min(AUTOCOMPLETE_LIMIT, result.size()));
+    }
+}
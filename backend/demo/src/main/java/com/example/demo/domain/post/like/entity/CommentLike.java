@@ -11,6 +11,10 @@ import lombok.NoArgsConstructor;
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_comment_like_comment", columnList = "comment_id, id"),
+        @Index(name = "idx_comment_like_user", columnList = "user_id, comment_id")
+})
 public class CommentLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -9,6 +9,10 @@ import lombok.NoArgsConstructor;
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_post_like_post", columnList = "post_id, id"),
+        @Index(name = "idx_post_like_user", columnList = "user_id, post_id")
+})
 public class PostLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,19 @@
+package com.example.demo.domain.post.like.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글/댓글 좋아요 토글 결과 - 커밋 후 사용자별 좋아요 캐시에 반영
+@Getter
+@AllArgsConstructor
+public class LikeToggledEvent {
+    private Long userId;
+    private Target target;
+    private Long targetId;
+    private boolean liked;
+
+    public enum Target {
+        POST,
+        COMMENT
+    }
+}
@@ -3,11 +3,29 @@ package com.example.demo.domain.post.like.repository;
 import com.example.demo.domain.member.user.entity.User;
 import com.example.demo.domain.post.comment.entity.Comment;
 import com.example.demo.domain.post.like.entity.CommentLike;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
     Optional<CommentLike> findByCommentAndUser(Comment comment, User user);
     boolean existsByCommentIdAndUserId(Long commentId, Long userId);
+
+    // 사용자별 좋아요 캐시 적재용 - 최근 좋아요부터
+    @Query("SELECT l.comment.id FROM CommentLike l WHERE l.user.id = :userId ORDER BY l.id DESC")
+    List<Long> findRecentCommentIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 댓글 한 페이지에 대해 내가 좋아요한 댓글 id 를 한 번에 조회
+    @Query("SELECT l.comment.id FROM CommentLike l WHERE l.user.id = :userId AND l.comment.id IN :commentIds")
+    List<Long> findLikedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
+
+    // idx_comment_like_comment (comment_id, id) 로 최근 좋아요부터 size 건만 읽는다
+    @Query("SELECT l.id AS likeId, u.id AS userId, u.nickname AS nickname FROM CommentLike l JOIN l.user u " +
+            "WHERE l.comment.id = :commentId AND l.id < :cursor ORDER BY l.id DESC")
+    List<LikerRow> findLikerPage(@Param("commentId") Long commentId, @Param("cursor") Long cursor, Pageable pageable);
 }
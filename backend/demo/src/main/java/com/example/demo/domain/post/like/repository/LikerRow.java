@@ -0,0 +1,10 @@
+package com.example.demo.domain.post.like.repository;
+
+// 좋아요 누른 사람 목록 한 줄 - likeId 는 keyset cursor 로 쓴다
+public interface LikerRow {
+    Long getLikeId();
+
+    Long getUserId();
+
+    String getNickname();
+}
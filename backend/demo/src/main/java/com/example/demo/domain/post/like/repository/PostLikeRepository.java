@@ -3,12 +3,29 @@ package com.example.demo.domain.post.like.repository;
 import com.example.demo.domain.member.user.entity.User;
 import com.example.demo.domain.post.like.entity.PostLike;
 import com.example.demo.domain.post.post.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     Optional<PostLike> findByPostAndUser(Post post, User user);
 
     boolean existsByPostPostIdAndUserId(Long postId, Long userId);
+
+    // 사용자별 좋아요 캐시 적재용 - 최근 좋아요부터
+    @Query("SELECT l.post.postId FROM PostLike l WHERE l.user.id = :userId ORDER BY l.id DESC")
+    List<Long> findRecentPostIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT l.post.postId FROM PostLike l WHERE l.user.id = :userId AND l.post.postId IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    // idx_post_like_post (post_id, id) 로 최근 좋아요부터 size 건만 읽는다
+    @Query("SELECT l.id AS likeId, u.id AS userId, u.nickname AS nickname FROM PostLike l JOIN l.user u " +
+            "WHERE l.post.postId = :postId AND l.id < :cursor ORDER BY l.id DESC")
+    List<LikerRow> findLikerPage(@Param("postId") Long postId, @Param("cursor") Long cursor, Pageable pageable);
 }
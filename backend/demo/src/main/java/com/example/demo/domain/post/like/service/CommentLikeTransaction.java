@@ -8,12 +8,14 @@ import com.example.demo.domain.notice.producer.NotificationProducer;
 import com.example.demo.domain.post.comment.entity.Comment;
 import com.example.demo.domain.post.comment.repository.CommentRepositiory;
 import com.example.demo.domain.post.like.entity.CommentLike;
+import com.example.demo.domain.post.like.event.LikeToggledEvent;
 import com.example.demo.domain.post.like.repository.CommentLikeRepository;
 import com.example.demo.domain.post.comment.controller.dto.CommentLikeResponse;
 import com.example.demo.domain.post.post.entity.Post;
 import lombok.RequiredArgsConstructor;
 import org.redisson.api.RAtomicLong;
 import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +32,7 @@ public class CommentLikeTransaction {
     private final UserRepository userRepository;
     private final RedissonClient redissonClient;
     private final NotificationProducer notificationProducer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CommentLikeResponse toggle(Long userId, Long commentId) {
@@ -55,6 +58,7 @@ public class CommentLikeTransaction {
             message = "좋아요 추가";
             sendNotification(comment, user);
         }
+        eventPublisher.publishEvent(new LikeToggledEvent(userId, LikeToggledEvent.Target.COMMENT, commentId, existing.isEmpty()));
 
         return new CommentLikeResponse(commentId, (int) count, message);
     }
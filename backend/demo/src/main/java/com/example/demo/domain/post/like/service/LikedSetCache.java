@@ -0,0 +1,136 @@
+package com.example.demo.domain.post.like.service;
+
+import com.example.demo.domain.post.like.event.LikeToggledEvent;
+import com.example.demo.domain.post.like.repository.CommentLikeRepository;
+import com.example.demo.domain.post.like.repository.PostLikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 사용자별 "내가 좋아요한 게시글/댓글 id" Redis set.
+ * 상세/댓글 페이지의 좋아요 여부를 SMISMEMBER 한 번으로 확인하고, MySQL 은 캐시가 없을 때만 읽는다.
+ * set 에는 적재 상태를 나타내는 표시 멤버가 같이 들어 있어 "캐시 없음"과 "좋아요 0건"을 구분한다.
+ * 좋아요가 MAX_CACHED_IDS 를 넘는 사용자는 최근 것만 담고(PARTIAL), set 에 없는 id 만 DB 로 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LikedSetCache {
+
+    private static final String POST_PREFIX = "user:liked:post:";
+    private static final String COMMENT_PREFIX = "user:liked:comment:";
+    private static final String COMPLETE = "_complete";
+    private static final String PARTIAL = "_partial";
+    private static final int MAX_CACHED_IDS = 5000;
+    private static final Duration TTL = Duration.ofHours(6); // 적재와 토글이 겹친 드문 경우의 오차도 이 시간 안에 사라진다
+
+    // 적재된(TTL 이 걸린) set 에만 반영 - 키가 없을 때 SADD 하면 TTL 없는 키가 생겨 영원히 남는다
+    private static final RedisScript<Long> TOGGLE_IF_EXISTS = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+                    "if ARGV[1] == '1' then return redis.call('SADD', KEYS[1], ARGV[2]) end " +
+                    "return redis.call('SREM', KEYS[1], ARGV[2])",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostLikeRepository postLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+
+    public boolean isPostLiked(Long userId, Long postId) {
+        return likedPostIds(userId, List.of(postId)).contains(postId);
+    }
+
+    public Set<Long> likedPostIds(Long userId, Collection<Long> postIds) {
+        return liked(LikeToggledEvent.Target.POST, userId, postIds);
+    }
+
+    public Set<Long> likedCommentIds(Long userId, Collection<Long> commentIds) {
+        return liked(LikeToggledEvent.Target.COMMENT, userId, commentIds);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeToggled(LikeToggledEvent event) {
+        // 캐시가 없으면 다음 조회에서 DB 로 다시 채워지므로 건너뛴다
+        stringRedisTemplate.execute(TOGGLE_IF_EXISTS,
+                List.of(key(event.getTarget(), event.getUserId())),
+                event.isLiked() ? "1" : "0", String.valueOf(event.getTargetId()));
+    }
+
+    private Set<Long> liked(LikeToggledEvent.Target target, Long userId, Collection<Long> ids) {
+        if (userId == null || ids.isEmpty()) {
+            return Set.of();
+        }
+        String key = key(target, userId);
+        List<Object> members = new ArrayList<>(ids.size() + 2);
+        members.add(COMPLETE);
+        members.add(PARTIAL);
+        ids.forEach(id -> members.add(String.valueOf(id)));
+
+        Map<Object, Boolean> found = stringRedisTemplate.opsForSet().isMember(key, members.toArray());
+        if (found == null || !(isTrue(found, COMPLETE) || isTrue(found, PARTIAL))) {
+            return load(target, userId, key, ids);
+        }
+
+        Set<Long> liked = new HashSet<>();
+        List<Long> unknown = new ArrayList<>();
+        for (Long id : ids) {
+            if (isTrue(found, String.valueOf(id))) {
+                liked.add(id);
+            } else {
+                unknown.add(id);
+            }
+        }
+        if (isTrue(found, PARTIAL) && !unknown.isEmpty()) {
+            liked.addAll(findInDb(target, userId, unknown));
+        }
+        return liked;
+    }
+
+    // 캐시 없음 - 최근 좋아요를 MAX_CACHED_IDS 개까지 읽어 set 을 만들고, 요청한 id 는 그 결과(또는 DB)로 답한다
+    private Set<Long> load(LikeToggledEvent.Target target, Long userId, String key, Collection<Long> ids) {
+        PageRequest limit = PageRequest.of(0, MAX_CACHED_IDS + 1);
+        List<Long> likedIds = target == LikeToggledEvent.Target.POST
+                ? postLikeRepository.findRecentPostIdsByUserId(userId, limit)
+                : commentLikeRepository.findRecentCommentIdsByUserId(userId, limit);
+        boolean complete = likedIds.size() <= MAX_CACHED_IDS;
+        List<Long> cached = complete ? likedIds : likedIds.subList(0, MAX_CACHED_IDS);
+
+        List<String> members = new ArrayList<>(cached.size() + 1);
+        members.add(complete ? COMPLETE : PARTIAL);
+        cached.forEach(id -> members.add(String.valueOf(id)));
+        stringRedisTemplate.opsForSet().add(key, members.toArray(String[]::new));
+        stringRedisTemplate.expire(key, TTL);
+
+        if (complete) {
+            Set<Long> all = new HashSet<>(cached);
+            Set<Long> liked = new HashSet<>();
+            for (Long id : ids) {
+                if (all.contains(id)) {
+                    liked.add(id);
+                }
+            }
+            return liked;
+        }
+        return new HashSet<>(findInDb(target, userId, ids));
+    }
+
+    private List<Long> findInDb(LikeToggledEvent.Target target, Long userId, Collection<Long> ids) {
+        return target == LikeToggledEvent.Target.POST
+                ? postLikeRepository.findLikedPostIds(userId, ids)
+                : commentLikeRepository.findLikedCommentIds(userId, ids);
+    }
+
+    private static boolean isTrue(Map<Object, Boolean> found, String member) {
+        return Boolean.TRUE.equals(found.get(member));
+    }
+
+    private static String key(LikeToggledEvent.Target target, Long userId) {
+        return (target == LikeToggledEvent.Target.POST ? POST_PREFIX : COMMENT_PREFIX) + userId;
+    }
+}
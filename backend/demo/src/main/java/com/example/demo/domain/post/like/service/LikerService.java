@@ -0,0 +1,62 @@
+package com.example.demo.domain.post.like.service;
+
+import com.example.demo.domain.member.follow.controller.dto.FollowState;
+import com.example.demo.domain.member.follow.service.FollowService;
+import com.example.demo.domain.post.like.repository.CommentLikeRepository;
+import com.example.demo.domain.post.like.repository.LikerRow;
+import com.example.demo.domain.post.like.repository.PostLikeRepository;
+import com.example.demo.domain.post.post.controller.dto.LikerPageResponse;
+import com.example.demo.domain.post.post.controller.dto.LikerResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요 누른 사람 목록. 최근 좋아요부터 like id 기준 keyset 페이지로 (user_id, nickname) 만 읽고,
+ * 보는 사람의 팔로우 상태는 페이지 단위 IN 조회 한 번으로 붙인다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LikerService {
+
+    public static final int DEFAULT_PAGE_SIZE = 30;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PostLikeRepository postLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final FollowService followService;
+
+    @Transactional(readOnly = true)
+    public LikerPageResponse getPostLikers(Long postId, Long viewerId, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<LikerRow> rows = postLikeRepository.findLikerPage(
+                postId, cursor != null ? cursor : Long.MAX_VALUE, PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize, viewerId);
+    }
+
+    @Transactional(readOnly = true)
+    public LikerPageResponse getCommentLikers(Long commentId, Long viewerId, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<LikerRow> rows = commentLikeRepository.findLikerPage(
+                commentId, cursor != null ? cursor : Long.MAX_VALUE, PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize, viewerId);
+    }
+
+    private LikerPageResponse toPage(List<LikerRow> rows, int pageSize, Long viewerId) {
+        boolean hasNext = rows.size() > pageSize;
+        List<LikerRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        Map<Long, FollowState> states = followService.getFollowStates(
+                viewerId, page.stream().map(LikerRow::getUserId).toList());
+        List<LikerResponse> items = page.stream()
+                .map(row -> new LikerResponse(row.getUserId(), row.getNickname(),
+                        states.getOrDefault(row.getUserId(), FollowState.NONE)))
+                .toList();
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getLikeId() : null;
+        return new LikerPageResponse(items, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.demo.domain.post.like.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * 게시글 좋아요 수 카운터.
+ * 평소에는 post:like:{postId} 키 하나에 INCRBY 하고, 이 인스턴스에서 초당 증감이 HOT_THRESHOLD_PER_SEC 를 넘으면
+ * post:like:{postId}:s0..s7 샤드 키(해시 슬롯이 서로 다름)에 나눠서 증감하고 post:like:hot:{postId} 표시(값 = 마지막 갱신 시각 ms)를 남긴다.
+ * 읽을 때 표시가 있으면 기본 키 + 샤드를 합산하고, 그 합계는 AGGREGATE_TTL_MS 동안 로컬에 캐시한다.
+ * 트래픽이 COOL_DOWN_MS 동안 잦아들면 샤드로 쓰던 인스턴스가 샤드 값을 기본 키로 다시 모은다.
+ * 그 인스턴스가 죽거나 재배포되면 샤드가 남으므로, 샤드를 쓴 게시글은 post:like:hot-posts 에도 기록하고
+ * 어느 인스턴스든 표시가 STALE_MS 동안 갱신되지 않은 게시글의 샤드를 모은 뒤에야 표시를 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeCounter {
+
+    private static final String KEY_PREFIX = "post:like:";
+    private static final String HOT_PREFIX = "post:like:hot:";
+    private static final String HOT_POSTS_KEY = "post:like:hot-posts";
+    private static final String SWEEP_LOCK_KEY = "lock:post:like:sweep";
+    private static final int SHARDS = 8;
+    private static final int HOT_THRESHOLD_PER_SEC = 50;
+    private static final Duration HOT_TTL = Duration.ofMinutes(10); // 정리 작업이 늦어져도 읽는 쪽이 샤드를 놓치지 않을 만큼 길게
+    private static final long MARKER_REFRESH_MS = 5_000;
+    private static final long COOL_DOWN_MS = 10_000;
+    static final long STALE_MS = COOL_DOWN_MS + MARKER_REFRESH_MS; // 이만큼 갱신이 없으면 샤드에 쓰는 인스턴스가 없다
+    private static final long AGGREGATE_TTL_MS = 300;
+    private static final long IDLE_EVICT_MS = 60_000;
+
+    // 접는 동안 다시 뜨거워져 표시가 갱신됐으면 지우지 않는다
+    private static final RedisScript<Long> DELETE_MARKER_IF_UNCHANGED = new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[1]) " +
+                    "if (not v) or v == ARGV[1] then redis.call('DEL', KEYS[1]) return 1 end " +
+                    "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedissonClient redissonClient;
+
+    private final Map<Long, Rate> rates = new ConcurrentHashMap<>();
+    private final Map<Long, Aggregate> aggregates = new ConcurrentHashMap<>();
+
+    public static String key(Long postId) {
+        return KEY_PREFIX + postId;
+    }
+
+    // 게시글 정리 시 지울 키 전부
+    public static String[] allKeys(Long postId) {
+        List<String> keys = new ArrayList<>(shardKeys(postId));
+        keys.add(key(postId));
+        keys.add(HOT_PREFIX + postId);
+        return keys.toArray(String[]::new);
+    }
+
+    // 증감 후 좋아요 수 (샤드 모드에서는 캐시된 합계 기준이라 최대 AGGREGATE_TTL_MS 만큼 늦을 수 있다)
+    public long add(Long postId, long delta) {
+        long now = System.currentTimeMillis();
+        Rate rate = rates.computeIfAbsent(postId, id -> new Rate());
+
+        if (!rate.record(now)) {
+            Long value = stringRedisTemplate.opsForValue().increment(key(postId), delta);
+            if (!rate.isSharded() && !aggregates.containsKey(postId)) {
+                return value != null ? value : 0L;
+            }
+        } else {
+            // 표시를 먼저 남겨야 읽는 쪽이 샤드 값을 놓치지 않는다
+            if (rate.shouldRefreshMarker(now)) {
+                stringRedisTemplate.opsForValue().set(HOT_PREFIX + postId, String.valueOf(now), HOT_TTL);
+                stringRedisTemplate.opsForSet().add(HOT_POSTS_KEY, String.valueOf(postId));
+            }
+            int shard = ThreadLocalRandom.current().nextInt(SHARDS);
+            stringRedisTemplate.opsForValue().increment(shardKey(postId, shard), delta);
+        }
+        // 다른 인스턴스가 샤드에 쓰고 있을 수 있으므로 합계로 응답, 내 증감은 캐시에도 바로 반영
+        aggregates.computeIfPresent(postId, (id, aggregate) -> aggregate.plus(delta));
+        Long total = get(postId);
+        return total != null ? total : 0L;
+    }
+
+    // 카운터가 아예 없으면 null (호출 측에서 post.like_count 로 대체)
+    public Long get(Long postId) {
+        long now = System.currentTimeMillis();
+        Aggregate cached = aggregates.get(postId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.value();
+        }
+
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(List.of(key(postId), HOT_PREFIX + postId));
+        String base = values != null ? values.get(0) : null;
+        boolean hot = values != null && values.get(1) != null;
+        if (!hot) {
+            aggregates.remove(postId);
+            return base != null ? Long.parseLong(base) : null;
+        }
+
+        // 샤드 키는 슬롯이 달라 클러스터에서는 슬롯별로 나뉘어 파이프라인으로 조회된다
+        long total = base != null ? Long.parseLong(base) : 0L;
+        List<String> shards = stringRedisTemplate.opsForValue().multiGet(shardKeys(postId));
+        if (shards != null) {
+            for (String shard : shards) {
+                if (shard != null) {
+                    total += Long.parseLong(shard);
+                }
+            }
+        }
+        aggregates.put(postId, new Aggregate(total, now + AGGREGATE_TTL_MS));
+        return total;
+    }
+
+    @Scheduled(fixedDelayString = "${post.like.counter.maintain-interval-ms:2000}")
+    public void maintain() {
+        long now = System.currentTimeMillis();
+        rates.forEach((postId, rate) -> {
+            if (rate.isSharded() && rate.cooledDown(now)) {
+                fold(postId);
+                rate.unshard();
+            } else if (!rate.isSharded() && rate.idle(now)) {
+                rates.remove(postId);
+            }
+        });
+        aggregates.entrySet().removeIf(e -> e.getValue().expiresAt() <= now);
+        sweepOrphans(now);
+    }
+
+    // 샤드를 쓰던 인스턴스가 접지 못하고 사라진 게시글 - 어느 인스턴스든 하나가 잠금을 잡고 모은다
+    void sweepOrphans(long now) {
+        Set<String> hotPosts = stringRedisTemplate.opsForSet().members(HOT_POSTS_KEY);
+        if (hotPosts == null || hotPosts.isEmpty()) {
+            return;
+        }
+        RLock lock = redissonClient.getLock(SWEEP_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            for (String member : hotPosts) {
+                Long postId = Long.valueOf(member);
+                String marker = stringRedisTemplate.opsForValue().get(HOT_PREFIX + postId);
+                if (marker != null && now - Long.parseLong(marker) < STALE_MS) {
+                    continue; // 아직 샤드에 쓰는 인스턴스가 있다
+                }
+                // 샤드를 먼저 모으고 표시는 나중에 지워, 그 사이에 읽어도 합계가 맞는다
+                fold(postId);
+                aggregates.remove(postId);
+                Long deleted = stringRedisTemplate.execute(DELETE_MARKER_IF_UNCHANGED,
+                        List.of(HOT_PREFIX + postId), marker != null ? marker : "");
+                if (deleted != null && deleted == 1L) {
+                    stringRedisTemplate.opsForSet().remove(HOT_POSTS_KEY, member);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 샤드 → 기본 키. GETDEL 과 INCRBY 사이에 잠깐 합계가 작게 보일 수 있지만 값은 유실되지 않는다
+    private void fold(Long postId) {
+        long sum = 0;
+        for (String shardKey : shardKeys(postId)) {
+            String value = stringRedisTemplate.opsForValue().getAndDelete(shardKey);
+            if (value != null) {
+                sum += Long.parseLong(value);
+            }
+        }
+        if (sum != 0) {
+            stringRedisTemplate.opsForValue().increment(key(postId), sum);
+        }
+        log.info("🔥 좋아요 카운터 샤드 해제: postId={}, 합친 값={}", postId, sum);
+    }
+
+    private static String shardKey(Long postId, int shard) {
+        return KEY_PREFIX + postId + ":s" + shard;
+    }
+
+    private static List<String> shardKeys(Long postId) {
+        return IntStream.range(0, SHARDS).mapToObj(i -> shardKey(postId, i)).toList();
+    }
+
+    private record Aggregate(long value, long expiresAt) {
+        Aggregate plus(long delta) {
+            return new Aggregate(value + delta, expiresAt);
+        }
+    }
+
+    // 게시글별 1초 구간 증감 횟수
+    private static final class Rate {
+        private long windowStart;
+        private int count;
+        private long lastHotAt;
+        private long lastSeenAt;
+        private long markerRefreshedAt;
+        private boolean sharded;
+
+        synchronized boolean record(long now) {
+            if (now - windowStart >= 1000) {
+                windowStart = now;
+                count = 0;
+            }
+            count++;
+            lastSeenAt = now;
+            if (count >= HOT_THRESHOLD_PER_SEC) {
+                if (!sharded) {
+                    log.info("🔥 좋아요 카운터 샤드 전환: 초당 {}회 이상", HOT_THRESHOLD_PER_SEC);
+                }
+                lastHotAt = now;
+                sharded = true;
+            }
+            return sharded && now - lastHotAt < COOL_DOWN_MS;
+        }
+
+        synchronized boolean shouldRefreshMarker(long now) {
+            if (now - markerRefreshedAt < MARKER_REFRESH_MS) {
+                return false;
+            }
+            markerRefreshedAt = now;
+            return true;
+        }
+
+        synchronized boolean isSharded() {
+            return sharded;
+        }
+
+        synchronized boolean cooledDown(long now) {
+            return now - lastHotAt >= COOL_DOWN_MS;
+        }
+
+        synchronized boolean idle(long now) {
+            return now - lastSeenAt >= IDLE_EVICT_MS;
+        }
+
+        synchronized void unshard() {
+            sharded = false;
+            markerRefreshedAt = 0;
+        }
+    }
+}
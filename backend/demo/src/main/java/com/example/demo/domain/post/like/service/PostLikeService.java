@@ -17,7 +17,8 @@ public class PostLikeService {
 
 
     public LikeResponse toggleLike(Long userId, Long postId) {
-        String lockKey = "lock:post:like:" + postId;
+        // 같은 사용자의 중복 토글만 막으면 되므로 게시글+사용자 단위 락 (인기 게시글에서 락 키 하나에 몰리지 않게)
+        String lockKey = "lock:post:like:" + postId + ":" + userId;
         RLock lock = redissonClient.getLock(lockKey);
 
         try {
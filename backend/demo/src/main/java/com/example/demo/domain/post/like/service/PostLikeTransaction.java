@@ -6,14 +6,15 @@ import com.example.demo.domain.notice.message.NotificationMessage;
 import com.example.demo.domain.notice.message.NotificationType;
 import com.example.demo.domain.notice.producer.NotificationProducer;
 import com.example.demo.domain.post.like.entity.PostLike;
+import com.example.demo.domain.post.like.event.LikeToggledEvent;
 import com.example.demo.domain.post.like.repository.PostLikeRepository;
 import com.example.demo.domain.post.post.controller.dto.LikeResponse;
 import com.example.demo.domain.post.post.entity.Post;
+import com.example.demo.domain.post.post.event.PostEngagementEvent;
 import com.example.demo.domain.post.post.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RAtomicLong;
-import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,36 +30,36 @@ public class PostLikeTransaction {
     private final PostLikeRepository postLikeRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final RedissonClient redissonClient;
+    private final PostLikeCounter postLikeCounter;
     private final NotificationProducer notificationProducer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public LikeResponse toggle(Long userId, Long postId) {
-        Post post = postRepository.findById(postId)
+        Post post = postRepository.findWithAuthorByPostId(postId)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
         Optional<PostLike> existing = postLikeRepository.findByPostAndUser(post, user);
-        String redisKey = "post:like:" + postId;
-        RAtomicLong atomicLong = redissonClient.getAtomicLong(redisKey);
-
         long count;
         String message;
 
         if (existing.isPresent()) {
             postLikeRepository.delete(existing.get());
-            count = atomicLong.decrementAndGet();
+            count = postLikeCounter.add(postId, -1);
             message = "좋아요 취소";
         } else {
             postLikeRepository.save(new PostLike(null, post, user));
-            count = atomicLong.incrementAndGet();
+            count = postLikeCounter.add(postId, 1);
             message = "좋아요 추가";
 
             log.info("👍 좋아요 알림 전송 대상: {}, 게시글: {}", post.getAuthor().getId(), post.getAuthor().getId());
             sendNotification(post, user);
+            eventPublisher.publishEvent(new PostEngagementEvent(postId, PostEngagementEvent.Type.LIKE, !post.getAuthor().isPrivate(), userId));
         }
+        eventPublisher.publishEvent(new LikeToggledEvent(userId, LikeToggledEvent.Target.POST, postId, existing.isEmpty()));
 
         return new LikeResponse(postId, (int) count, message);
     }
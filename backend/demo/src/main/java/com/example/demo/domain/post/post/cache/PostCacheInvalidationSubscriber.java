@@ -0,0 +1,18 @@
+package com.example.demo.domain.post.post.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostCacheInvalidationSubscriber implements MessageListener {
+
+    private final PostDetailCache postDetailCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        postDetailCache.evictNear(Long.valueOf(new String(message.getBody())));
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.demo.domain.post.post.cache;
+
+import com.example.demo.domain.post.post.event.PostChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 상세 read-through 캐시 (near cache → Redis → DB).
+ *
+ * - Redis 에는 스냅샷과 버전 키를 따로 두고 MGET 한 번으로 같이 읽는다. 수정/삭제 커밋 후 버전을 올리므로,
+ *   무효화 직전에 DB 를 읽은 로더가 늦게 써 넣은 스냅샷은 버전이 달라 사용되지 않는다.
+ * - near cache 는 짧은 TTL 로 두고, 무효화는 Redis pub/sub 으로 모든 인스턴스에 전파한다.
+ * - 같은 키의 miss 는 인스턴스 안에서 한 번만 로드하고(single-flight), 인스턴스 간에는 분산 락으로 한 곳만 DB 를 읽게 한다.
+ * - 없는 게시글은 버전을 담은 tombstone 을 짧은 TTL 로 남겨, 같은 id 를 반복 조회해도 DB 까지 내려가지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDetailCache {
+
+    public static final String INVALIDATE_CHANNEL = "post:cache:invalidate";
+    private static final String KEY_PREFIX = "post:detail:";
+    private static final String VERSION_PREFIX = "post:detail:ver:";
+    private static final String LOCK_PREFIX = "lock:post:detail:";
+    private static final String MISSING_PREFIX = "missing:";
+    private static final Duration REDIS_TTL = Duration.ofMinutes(30);
+    private static final Duration MISSING_TTL = Duration.ofSeconds(30);
+    private static final long NEAR_TTL_MS = 30_000;
+    private static final int NEAR_MAX_SIZE = 10_000;
+    private static final long LOCK_WAIT_MS = 200;
+    private static final long LOCK_LEASE_MS = 3_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final PostSnapshotReader postSnapshotReader;
+
+    private final Map<Long, NearEntry> near = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<PostSnapshot>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong nearHits = new AtomicLong();
+    private final AtomicLong redisHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public PostSnapshot get(Long postId) {
+        NearEntry entry = near.get(postId);
+        if (entry != null && entry.expiresAt() > System.currentTimeMillis()) {
+            nearHits.incrementAndGet();
+            return orNotFound(entry.snapshot());
+        }
+
+        CachedRead cached = readRedis(postId);
+        if (cached.hit()) {
+            redisHits.incrementAndGet();
+            putNear(postId, cached.snapshot());
+            return orNotFound(cached.snapshot());
+        }
+
+        misses.incrementAndGet();
+        return loadOnce(postId);
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        invalidate(event.getPostId());
+    }
+
+    public void invalidate(Long postId) {
+        stringRedisTemplate.opsForValue().increment(VERSION_PREFIX + postId);
+        stringRedisTemplate.delete(KEY_PREFIX + postId);
+        near.remove(postId);
+        stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(postId));
+    }
+
+    // 다른 인스턴스에서 온 무효화
+    public void evictNear(Long postId) {
+        near.remove(postId);
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(nearHits.get(), redisHits.get(), misses.get(), near.size());
+    }
+
+    @Scheduled(fixedRate = 60_000)
+    public void logStats() {
+        CacheStats stats = stats();
+        if (stats.requests() > 0) {
+            log.info("📦 게시글 캐시: near={}, redis={}, miss={}, hitRate={}%, nearSize={}",
+                    stats.nearHits(), stats.redisHits(), stats.misses(),
+                    String.format("%.1f", stats.hitRate() * 100), stats.nearSize());
+        }
+    }
+
+    private PostSnapshot loadOnce(Long postId) {
+        CompletableFuture<PostSnapshot> mine = new CompletableFuture<>();
+        CompletableFuture<PostSnapshot> running = inFlight.putIfAbsent(postId, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+
+        try {
+            PostSnapshot snapshot = loadWithLock(postId);
+            mine.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(postId, mine);
+        }
+    }
+
+    private PostSnapshot loadWithLock(Long postId) {
+        RLock lock = redissonClient.getLock(LOCK_PREFIX + postId);
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(LOCK_WAIT_MS, LOCK_LEASE_MS, TimeUnit.MILLISECONDS);
+            // 락을 기다리는 동안 다른 인스턴스가 채웠을 수 있음. 락을 못 잡았으면 그냥 직접 읽는다
+            CachedRead cached = readRedis(postId);
+            if (cached.hit()) {
+                putNear(postId, cached.snapshot());
+                return orNotFound(cached.snapshot());
+            }
+            return loadAndStore(postId, cached.version());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("게시글 캐시 로드 중단", e);
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private PostSnapshot loadAndStore(Long postId, long version) {
+        PostSnapshot snapshot = postSnapshotReader.find(postId, version).orElse(null);
+        if (snapshot == null) {
+            // 없는 게시글: 버전을 담은 tombstone. 이후 생성/수정 무효화로 버전이 오르면 자연히 무시된다
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + postId, MISSING_PREFIX + version, MISSING_TTL);
+        } else {
+            try {
+                stringRedisTemplate.opsForValue().set(KEY_PREFIX + postId, objectMapper.writeValueAsString(snapshot), REDIS_TTL);
+            } catch (JsonProcessingException e) {
+                log.warn("게시글 캐시 직렬화 실패: postId={}", postId, e);
+            }
+        }
+        // 읽는 사이 무효화됐다면 near 에는 넣지 않는다
+        if (currentVersion(postId) == version) {
+            putNear(postId, snapshot);
+        }
+        return orNotFound(snapshot);
+    }
+
+    private CachedRead readRedis(Long postId) {
+        List<String> values = stringRedisTemplate.opsForValue()
+                .multiGet(List.of(KEY_PREFIX + postId, VERSION_PREFIX + postId));
+        String json = values == null ? null : values.get(0);
+        long version = values == null || values.get(1) == null ? 0L : Long.parseLong(values.get(1));
+        if (json == null) {
+            return CachedRead.miss(version);
+        }
+        if (json.startsWith(MISSING_PREFIX)) {
+            boolean current = Long.parseLong(json.substring(MISSING_PREFIX.length())) == version;
+            return new CachedRead(null, version, current);
+        }
+        try {
+            PostSnapshot snapshot = objectMapper.readValue(json, PostSnapshot.class);
+            return snapshot.getVersion() == version ? new CachedRead(snapshot, version, true) : CachedRead.miss(version);
+        } catch (JsonProcessingException e) {
+            log.warn("게시글 캐시 역직렬화 실패: postId={}", postId, e);
+            return CachedRead.miss(version);
+        }
+    }
+
+    // snapshot 이 null 이면 tombstone - 없는 게시글
+    private PostSnapshot orNotFound(PostSnapshot snapshot) {
+        if (snapshot == null) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다.");
+        }
+        return snapshot;
+    }
+
+    private long currentVersion(Long postId) {
+        String value = stringRedisTemplate.opsForValue().get(VERSION_PREFIX + postId);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    private void putNear(Long postId, PostSnapshot snapshot) {
+        long now = System.currentTimeMillis();
+        if (near.size() >= NEAR_MAX_SIZE) {
+            near.values().removeIf(e -> e.expiresAt() <= now);
+            if (near.size() >= NEAR_MAX_SIZE) {
+                return;
+            }
+        }
+        long ttlMs = snapshot != null ? NEAR_TTL_MS : MISSING_TTL.toMillis();
+        near.put(postId, new NearEntry(snapshot, now + ttlMs));
+    }
+
+    private record NearEntry(PostSnapshot snapshot, long expiresAt) {
+    }
+
+    // hit 이면서 snapshot 이 null 이면 현재 버전의 tombstone
+    private record CachedRead(PostSnapshot snapshot, long version, boolean hit) {
+        static CachedRead miss(long version) {
+            return new CachedRead(null, version, false);
+        }
+    }
+
+    public record CacheStats(long nearHits, long redisHits, long misses, int nearSize) {
+        public long requests() {
+            return nearHits + redisHits + misses;
+        }
+
+        public double hitRate() {
+            return requests() == 0 ? 0 : (double) (nearHits + redisHits) / requests();
+        }
+    }
+}
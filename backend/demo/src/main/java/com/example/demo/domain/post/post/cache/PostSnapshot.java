@@ -0,0 +1,47 @@
+package com.example.demo.domain.post.post.cache;
+
+import com.example.demo.domain.post.post.entity.Post;
+import com.example.demo.domain.post.post.entity.PostImage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * PostResponse 중 보는 사람과 무관한 부분. 캐시에 저장되는 단위.
+ * version 은 저장 시점의 post:detail:ver:{postId} 값으로, 무효화 이후 늦게 써진 스냅샷을 걸러낸다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSnapshot {
+    private Long postId;
+    private String title;
+    private String content;
+    private Long authorId;
+    private String authorNickname;
+    private LocalDateTime updatedAt;
+    private List<String> imageUrls;
+    private Integer likeCount;  // Redis 카운터가 없을 때의 fallback
+    private Integer commentCount;  // 마찬가지로 post:comment:{postId} 가 없을 때의 fallback
+    private long version;
+
+    public static PostSnapshot from(Post post, long version) {
+        return PostSnapshot.builder()
+                .postId(post.getPostId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .authorId(post.getAuthor().getId())
+                .authorNickname(post.getAuthor().getNickname())
+                .updatedAt(post.getUpdatedAt())
+                .imageUrls(post.getImages().stream().map(PostImage::getImageURL).toList())
+                .likeCount(post.getLikeCount())
+                .commentCount(post.getCommentCount())
+                .version(version)
+                .build();
+    }
+}
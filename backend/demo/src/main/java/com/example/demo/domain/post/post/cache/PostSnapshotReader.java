@@ -0,0 +1,23 @@
+package com.example.demo.domain.post.post.cache;
+
+import com.example.demo.domain.post.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// 캐시 miss 시에만 트랜잭션을 열도록 조회 부분을 분리
+@Component
+@RequiredArgsConstructor
+public class PostSnapshotReader {
+
+    private final PostRepository postRepository;
+
+    // 없는 게시글은 캐시가 tombstone 으로 기억하도록 예외 대신 빈 값으로 돌려준다
+    @Transactional(readOnly = true)
+    public Optional<PostSnapshot> find(Long postId, long version) {
+        return postRepository.findDetailByPostId(postId)
+                .map(post -> PostSnapshot.from(post, version));
+    }
+}
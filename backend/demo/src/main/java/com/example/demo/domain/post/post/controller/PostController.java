@@ -1,5 +1,6 @@
 package com.example.demo.domain.post.post.controller;
 
+import com.example.demo.domain.post.like.service.LikerService;
 import com.example.demo.domain.post.like.service.PostLikeService;
 import com.example.demo.domain.post.post.controller.dto.*;
 import com.example.demo.domain.post.post.service.PostService;
@@ -17,6 +18,7 @@ public class PostController {
 
     private final PostService postService;
     private final PostLikeService postLikeService;
+    private final LikerService likerService;
 
     // 게시글 작성
     @PostMapping
@@ -75,4 +77,15 @@ public class PostController {
         LikeResponse response = postLikeService.toggleLike(auth.getUserId(), postId);
         return ResponseEntity.ok(response);
     }
+
+    // 게시글 좋아요 누른 사람 목록 (최근 순, cursor = 이전 페이지의 nextCursor)
+    @GetMapping("/{postId}/likes")
+    public ResponseEntity<LikerPageResponse> getLikers(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + LikerService.DEFAULT_PAGE_SIZE) int size,
+            JwtAuthentication auth
+    ) {
+        return ResponseEntity.ok(likerService.getPostLikers(postId, auth.getUserId(), cursor, size));
+    }
 }
@@ -0,0 +1,14 @@
+package com.example.demo.domain.post.post.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class LikerPageResponse {
+    private List<LikerResponse> items;
+    private Long nextCursor;   // 다음 요청의 cursor (마지막 좋아요 id), 더 없으면 null
+    private boolean hasNext;
+}
@@ -0,0 +1,13 @@
+package com.example.demo.domain.post.post.controller.dto;
+
+import com.example.demo.domain.member.follow.controller.dto.FollowState;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class LikerResponse {
+    private Long userId;
+    private String nickname;
+    private FollowState followState; // 보는 사람 기준 팔로우 상태 (본인은 NONE)
+}
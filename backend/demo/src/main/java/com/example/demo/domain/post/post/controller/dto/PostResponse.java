@@ -1,5 +1,6 @@
 package com.example.demo.domain.post.post.controller.dto;
 
+import com.example.demo.domain.post.post.cache.PostSnapshot;
 import com.example.demo.domain.post.post.entity.Post;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,6 +22,7 @@ public class PostResponse {
     private String authorNickname;
     private LocalDateTime updatedAt;
     private Integer likeCount;
+    private Integer commentCount;
     private Boolean likedByCurrentUser;
     private List<String> imageUrls;
     private Boolean isAuthor;
@@ -33,11 +35,27 @@ public class PostResponse {
         this.authorNickname = post.getAuthor().getNickname();
         this.updatedAt = post.getUpdatedAt();
         this.likeCount = likeCount;
+        this.commentCount = post.getCommentCount();
         this.likedByCurrentUser = liked;
         this.imageUrls = post.getImages().stream()
                 .map(image -> image.getImageURL())
                 .toList();
         this.isAuthor = post.getAuthor().getId().equals(userId);
     }
+
+    // 캐시된 스냅샷 + 보는 사람별 정보
+    public PostResponse(PostSnapshot snapshot, int likeCount, int commentCount, boolean liked, Long userId) {
+        this.id = snapshot.getPostId();
+        this.title = snapshot.getTitle();
+        this.content = snapshot.getContent();
+        this.authorId = snapshot.getAuthorId();
+        this.authorNickname = snapshot.getAuthorNickname();
+        this.updatedAt = snapshot.getUpdatedAt();
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.likedByCurrentUser = liked;
+        this.imageUrls = snapshot.getImageUrls();
+        this.isAuthor = snapshot.getAuthorId().equals(userId);
+    }
 }
 
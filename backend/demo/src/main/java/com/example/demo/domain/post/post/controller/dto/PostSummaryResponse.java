@@ -14,6 +14,7 @@ public class PostSummaryResponse {
     private String authorNickname;
     private LocalDateTime createdAt;
     private Integer likeCount;
+    private Integer commentCount;
     private List<String> thumbnailUrls; // 첫 번째 이미지 기준
 }
 
@@ -6,6 +6,8 @@ import com.example.demo.domain.post.like.entity.PostLike;
 import com.example.demo.domain.post.post.controller.dto.EditPostRequestDto;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -19,7 +21,18 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = @Index(name = "idx_post_author_grid", columnList = "author, deleted, post_id, first_image_url, comment_count"))
+@SQLRestriction("deleted = false") // 삭제 표시된 게시글은 PostPurger 가 정리하기 전까지 조회에서 제외
+@NamedEntityGraph(name = Post.GRAPH_WITH_AUTHOR,
+        attributeNodes = @NamedAttributeNode("author"))
+@NamedEntityGraph(name = Post.GRAPH_DETAIL,
+        attributeNodes = {@NamedAttributeNode("author"), @NamedAttributeNode("images")})
 public class Post {
+    // 좋아요/댓글 작성처럼 게시글 본문만 필요한 경로 (작성자는 알림 대상)
+    public static final String GRAPH_WITH_AUTHOR = "Post.withAuthor";
+    // 게시글 상세/수정 - 이미지까지 한 번에
+    public static final String GRAPH_DETAIL = "Post.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long postId;
@@ -40,23 +53,43 @@ public class Post {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
-    @OneToMany(mappedBy = "post", fetch = FetchType.EAGER, cascade = CascadeType.REMOVE, orphanRemoval = true)
+    // 댓글은 CommentRepositiory 로 따로 조회한다. 여기서는 삭제 cascade 용도
+    @OneToMany(mappedBy = "post", cascade = CascadeType.REMOVE, orphanRemoval = true)
     @OrderBy("id asc")
+    @BatchSize(size = 100)
     private List<Comment> comments = new ArrayList<>();
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.REMOVE, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<PostLike> likes = new ArrayList<>();
 
     @Setter
     @Column(name = "like_count")
     private Integer likeCount;
 
+    // 댓글 수 - 최신 값은 Redis 카운터, 여기는 PostCommentCounter 가 주기적으로 반영하는 값
+    @Column(name = "comment_count", nullable = false)
+    private int commentCount;
+
+    // 프로필 그리드용 첫 이미지(썸네일이 생기면 썸네일) - idx_post_author_grid 만으로 그리드를 읽기 위해 post 에 둔다
+    @Column(name = "first_image_url")
+    private String firstImageUrl;
+
+    @Column(nullable = false)
+    private boolean deleted = false;
+
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<PostImage> images = new ArrayList<>();
 
     public void addImage(PostImage image) {
         images.add(image);
         image.setPost(this);
+        if (images.size() == 1) {
+            firstImageUrl = image.getThumbnailOrOriginal();
+        }
     }
 
     public void clearImages() {
@@ -64,14 +97,12 @@ public class Post {
             image.setPost(null);
         }
         images.clear();
+        firstImageUrl = null;
     }
 
-    public String getFirstImageUrl() {
-        if (images.isEmpty()) {
-            return null;
-        } else {
-            return images.get(0).getImageURL();
-        }
+    public void markDeleted() {
+        this.deleted = true;
+        this.deletedAt = LocalDateTime.now();
     }
 
     public void update(EditPostRequestDto editPostRequestDto) {
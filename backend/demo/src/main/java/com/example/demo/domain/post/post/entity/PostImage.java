@@ -12,6 +12,17 @@ public class PostImage {
 
     private String imageURL;
 
+    // 파생 이미지 - 생성 전에는 null (ImageDerivativeService)
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url")
+    private String mediumUrl;
+
+    public String getThumbnailOrOriginal() {
+        return thumbnailUrl != null ? thumbnailUrl : imageURL;
+    }
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
     private Post post;
@@ -0,0 +1,11 @@
+package com.example.demo.domain.post.post.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 작성/수정/삭제 - 캐시 무효화, 검색 색인 등 후속 처리용
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+    private Long postId;
+}
@@ -0,0 +1,19 @@
+package com.example.demo.domain.post.post.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 좋아요/댓글 - 인기 게시글 점수 반영용
+@Getter
+@AllArgsConstructor
+public class PostEngagementEvent {
+
+    public enum Type {
+        LIKE, COMMENT
+    }
+
+    private Long postId;
+    private Type type;
+    private boolean publicPost; // 비공개 계정 게시글은 탐색 탭에 노출하지 않음
+    private Long actorId;       // 좋아요/댓글을 단 사용자
+}
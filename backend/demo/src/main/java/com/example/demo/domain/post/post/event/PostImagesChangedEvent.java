@@ -0,0 +1,11 @@
+package com.example.demo.domain.post.post.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 작성/수정으로 이미지가 추가됨 - 썸네일 생성 트리거
+@Getter
+@AllArgsConstructor
+public class PostImagesChangedEvent {
+    private Long postId;
+}
@@ -0,0 +1,130 @@
+package com.example.demo.domain.post.post.image;
+
+import com.example.demo.domain.post.post.entity.PostImage;
+import com.example.demo.domain.post.post.event.PostImagesChangedEvent;
+import com.example.demo.domain.post.post.repository.PostImageRepository;
+import com.example.demo.domain.post.post.repository.PostRepository;
+import com.example.demo.global.storage.ObjectStorage;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * 게시글 이미지 파생본(썸네일/중간 크기) 생성.
+ * 클라이언트는 presigned URL 로 원본을 직접 올리고 게시글을 저장하므로, 게시글 커밋 이후 썸네일이 없는 이미지를 찾아 만든다.
+ * 리사이즈는 CPU 작업이라 요청 스레드와 분리된 작은 전용 풀에서 돌린다. 파생본이 생기기 전까지 응답은 원본 URL 을 쓴다.
+ * 대기열이 가득 차면 요청 스레드를 붙잡지 않고 버린다. 버려지거나 실패했거나 재시작으로 사라진 작업은
+ * thumbnail_url 이 비어 있는 이미지를 image_id 순으로 도는 백필이 나중에 처리한다.
+ * 파생본 URL 저장은 커밋이 끝난 뒤(AFTER_COMMIT)에도 실행될 수 있어 항상 새 트랜잭션(REQUIRES_NEW)으로 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageDerivativeService {
+
+    private static final int WORKERS = 2;
+    private static final int QUEUE_SIZE = 1000;
+    private static final int BACKFILL_BATCH = 100;
+    private static final String BACKFILL_LOCK_KEY = "lock:post:image:backfill";
+    private static final String BACKFILL_CURSOR_KEY = "post:image:backfill:cursor";
+
+    private final PostImageRepository postImageRepository;
+    private final PostRepository postRepository;
+    private final ObjectStorage objectStorage;
+    private final ImageResizer imageResizer;
+    private final PlatformTransactionManager transactionManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedissonClient redissonClient;
+
+    private final ExecutorService executor = new ThreadPoolExecutor(
+            WORKERS, WORKERS, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(QUEUE_SIZE),
+            (task, pool) -> log.warn("썸네일 생성 대기열이 가득 차 건너뜀 - 백필에서 처리"));
+
+    @TransactionalEventListener
+    public void onImagesChanged(PostImagesChangedEvent event) {
+        executor.execute(() -> generateForPost(event.getPostId()));
+    }
+
+    public void generateForPost(Long postId) {
+        for (PostImage image : postImageRepository.findByPost_PostIdAndThumbnailUrlIsNull(postId)) {
+            generateQuietly(postId, image);
+        }
+    }
+
+    // 한 번에 BACKFILL_BATCH 장씩 커서를 옮기며 돌고, 끝까지 가면 처음부터 다시 (실패한 이미지는 다음 바퀴에 재시도)
+    @Scheduled(fixedDelayString = "${post.image.backfill-interval-ms:60000}")
+    public void backfill() {
+        RLock lock = redissonClient.getLock(BACKFILL_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            String cursor = stringRedisTemplate.opsForValue().get(BACKFILL_CURSOR_KEY);
+            long afterId = cursor != null ? Long.parseLong(cursor) : 0L;
+            List<PostImage> images = postImageRepository.findMissingDerivatives(afterId, PageRequest.of(0, BACKFILL_BATCH));
+            if (images.isEmpty()) {
+                stringRedisTemplate.delete(BACKFILL_CURSOR_KEY);
+                return;
+            }
+            for (PostImage image : images) {
+                generateQuietly(image.getPost().getPostId(), image);
+            }
+            stringRedisTemplate.opsForValue().set(BACKFILL_CURSOR_KEY, String.valueOf(images.get(images.size() - 1).getImage_id()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void generateQuietly(Long postId, PostImage image) {
+        try {
+            generate(postId, image);
+        } catch (Exception e) {
+            log.warn("썸네일 생성 실패: imageId={}, url={}, {}", image.getImage_id(), image.getImageURL(), e.getMessage());
+        }
+    }
+
+    private void generate(Long postId, PostImage image) throws IOException {
+        String originalKey = objectStorage.keyOf(image.getImageURL());
+        if (originalKey == null) {
+            return; // 외부 URL 은 건드리지 않음
+        }
+
+        byte[] original = objectStorage.read(originalKey);
+        Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : ImageVariant.values()) {
+            String key = variant.keyFor(originalKey);
+            objectStorage.write(key, imageResizer.resizeToJpeg(original, variant.getMaxWidth()), "image/jpeg");
+            urls.put(variant, objectStorage.urlOf(key));
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.executeWithoutResult(status -> {
+            postImageRepository.updateDerivatives(image.getImage_id(),
+                    urls.get(ImageVariant.THUMBNAIL), urls.get(ImageVariant.MEDIUM));
+            postRepository.replaceFirstImageUrl(postId, image.getImageURL(), urls.get(ImageVariant.THUMBNAIL));
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
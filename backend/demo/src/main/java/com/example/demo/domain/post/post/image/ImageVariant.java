@@ -0,0 +1,20 @@
+package com.example.demo.domain.post.post.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    THUMBNAIL(320, "thumb"),    // 프로필 그리드/피드 썸네일
+    MEDIUM(1080, "medium");     // 모바일 상세 화면
+
+    private final int maxWidth;
+    private final String path;
+
+    // uploads/abc_photo.png -> derived/thumb/uploads/abc_photo.png.jpg
+    // 파생본은 immutable 로 캐시되므로 경로/확장자까지 원본 키 전체를 넣어 다른 원본과 겹치지 않게 한다
+    public String keyFor(String originalKey) {
+        return "derived/" + path + "/" + originalKey + ".jpg";
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.demo.domain.post.post.repository;
+
+// 댓글 수 보정 - 게시글의 실제 댓글 수
+public interface PostCommentCount {
+    Long getPostId();
+
+    Long getCommentCount();
+}
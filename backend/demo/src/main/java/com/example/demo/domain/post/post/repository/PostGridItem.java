@@ -0,0 +1,10 @@
+package com.example.demo.domain.post.post.repository;
+
+// 프로필 그리드 한 칸 - idx_post_author_grid 에 있는 컬럼만 조회
+public interface PostGridItem {
+    Long getPostId();
+
+    String getFirstImageUrl();
+
+    Integer getCommentCount();
+}
@@ -0,0 +1,27 @@
+package com.example.demo.domain.post.post.repository;
+
+import com.example.demo.domain.post.post.entity.PostImage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface PostImageRepository extends JpaRepository<PostImage, Long> {
+
+    List<PostImage> findByPost_PostIdAndThumbnailUrlIsNull(Long postId);
+
+    // 파생본 백필 - image_id 순으로 afterId 다음부터
+    @Query("SELECT i FROM PostImage i JOIN FETCH i.post WHERE i.thumbnailUrl IS NULL AND i.image_id > :afterId ORDER BY i.image_id")
+    List<PostImage> findMissingDerivatives(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PostImage i SET i.thumbnailUrl = :thumbnailUrl, i.mediumUrl = :mediumUrl WHERE i.image_id = :imageId")
+    int updateDerivatives(@Param("imageId") Long imageId,
+                          @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("mediumUrl") String mediumUrl);
+}
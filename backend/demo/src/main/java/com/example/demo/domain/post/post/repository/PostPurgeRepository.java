@@ -0,0 +1,58 @@
+package com.example.demo.domain.post.post.repository;
+
+import com.example.demo.domain.post.post.entity.Post;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 삭제 표시된 게시글 정리용 native 쿼리.
+ * Post 의 @SQLRestriction 을 우회해야 하고, 한 문장에 지우는 행 수를 LIMIT 으로 묶어 락을 짧게 잡기 위해 native 로 둔다.
+ * 각 메서드가 독립된 짧은 트랜잭션이다.
+ */
+public interface PostPurgeRepository extends Repository<Post, Long> {
+
+    @Query(value = "SELECT post_id FROM post WHERE deleted = true ORDER BY post_id LIMIT :limit", nativeQuery = true)
+    List<Long> findDeletedPostIds(@Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(*) FROM post WHERE deleted = true", nativeQuery = true)
+    long countDeleted();
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM post_like WHERE post_id = :postId LIMIT :limit", nativeQuery = true)
+    int deletePostLikes(@Param("postId") Long postId, @Param("limit") int limit);
+
+    @Query(value = "SELECT id FROM comment WHERE post_id = :postId ORDER BY id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> findCommentIds(@Param("postId") Long postId, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM comment_like WHERE comment_id IN (:commentIds) LIMIT :limit", nativeQuery = true)
+    int deleteCommentLikes(@Param("commentIds") List<Long> commentIds, @Param("limit") int limit);
+
+    // 대댓글은 항상 부모보다 id 가 크므로 id 내림차순으로 지우면 parent_id FK 를 위반하지 않는다
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM comment WHERE id IN (:commentIds) ORDER BY id DESC", nativeQuery = true)
+    int deleteComments(@Param("commentIds") List<Long> commentIds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM post_image WHERE post_id = :postId LIMIT :limit", nativeQuery = true)
+    int deletePostImages(@Param("postId") Long postId, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM post_hashtag WHERE post_id = :postId LIMIT :limit", nativeQuery = true)
+    int deletePostHashtags(@Param("postId") Long postId, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM post WHERE post_id = :postId AND deleted = true", nativeQuery = true)
+    int deletePost(@Param("postId") Long postId);
+}
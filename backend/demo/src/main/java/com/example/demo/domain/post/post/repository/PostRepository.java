@@ -1,15 +1,69 @@
 package com.example.demo.domain.post.post.repository;
 
 import com.example.demo.domain.post.post.entity.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     Integer countByAuthor_Id(Long authorId);
 
-    List<Post> findByAuthor_Id(Long userId);
+    @EntityGraph(Post.GRAPH_WITH_AUTHOR)
+    Optional<Post> findWithAuthorByPostId(Long postId);
+
+    @EntityGraph(Post.GRAPH_DETAIL)
+    Optional<Post> findDetailByPostId(Long postId);
+
+    @EntityGraph(Post.GRAPH_WITH_AUTHOR)
+    List<Post> findAllWithAuthorByPostIdIn(Collection<Long> postIds);
+
+    // 재색인용 post_id 순 chunk 조회
+    @EntityGraph(Post.GRAPH_WITH_AUTHOR)
+    @Query("SELECT p FROM Post p WHERE p.postId > :lastId ORDER BY p.postId ASC")
+    List<Post> findChunkAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 프로필 그리드 - idx_post_author_grid 만 읽는 커버링 조회 (cursor 보다 작은 post_id 부터 최신순)
+    @Query("SELECT p.postId AS postId, p.firstImageUrl AS firstImageUrl, p.commentCount AS commentCount FROM Post p " +
+            "WHERE p.author.id = :authorId AND p.postId < :cursor ORDER BY p.postId DESC")
+    List<PostGridItem> findGridPage(@Param("authorId") Long authorId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("SELECT p.postId AS postId, p.firstImageUrl AS firstImageUrl, p.commentCount AS commentCount FROM Post p " +
+            "WHERE p.postId IN :postIds AND p.author.isPrivate = false")
+    List<PostGridItem> findPublicGridItemsByIds(@Param("postIds") Collection<Long> postIds);
+
+    @Query("SELECT MAX(p.postId) FROM Post p WHERE p.author.id = :authorId")
+    Long findLatestPostIdByAuthorId(@Param("authorId") Long authorId);
+
+    // PostCommentCounter 가 Redis 카운터 값을 주기적으로 덮어쓴다
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = :commentCount WHERE p.postId = :postId")
+    int updateCommentCount(@Param("postId") Long postId, @Param("commentCount") int commentCount);
+
+    // 댓글 수 보정 - (fromId, toId] 구간에서 comment_count 가 실제 댓글 수와 다른 게시글
+    @Query("SELECT p.postId AS postId, COUNT(c.id) AS commentCount FROM Post p LEFT JOIN Comment c ON c.post = p " +
+            "WHERE p.postId > :fromId AND p.postId <= :toId " +
+            "GROUP BY p.postId, p.commentCount HAVING COUNT(c.id) <> p.commentCount")
+    List<PostCommentCount> findCommentCountMismatches(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT MAX(p.postId) FROM Post p")
+    Long findMaxPostId();
+
+    // 첫 이미지의 썸네일이 생성되면 그리드 이미지를 교체
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.firstImageUrl = :thumbnailUrl WHERE p.postId = :postId AND p.firstImageUrl = :originalUrl")
+    int replaceFirstImageUrl(@Param("postId") Long postId,
+                             @Param("originalUrl") String originalUrl,
+                             @Param("thumbnailUrl") String thumbnailUrl);
 
 }
@@ -0,0 +1,108 @@
+package com.example.demo.domain.post.post.service;
+
+import com.example.demo.domain.post.comment.service.PostCommentCounter;
+import com.example.demo.domain.post.like.service.PostLikeCounter;
+import com.example.demo.domain.post.post.repository.PostPurgeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 삭제 표시된 게시글(tombstone)을 백그라운드에서 정리한다.
+ * 좋아요 → 댓글 좋아요/댓글 → 이미지/해시태그 → 게시글 순으로 LIMIT 묶음 단위로 지우고, 묶음마다 트랜잭션이 끝나므로
+ * 좋아요가 수만 건인 게시글도 한 번에 오래 락을 잡지 않는다. 중간에 멈춰도 다음 실행에서 남은 것부터 이어서 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostPurger {
+
+    private static final String LOCK_KEY = "lock:post:purge";
+    private static final int POSTS_PER_RUN = 10;
+    private static final int DELETE_CHUNK = 1000;
+    private static final int COMMENT_CHUNK = 500;
+
+    private final PostPurgeRepository purgeRepository;
+    private final RedissonClient redissonClient;
+
+    private final AtomicLong purgedPosts = new AtomicLong();
+    private final AtomicLong deletedPostLikes = new AtomicLong();
+    private final AtomicLong deletedComments = new AtomicLong();
+    private final AtomicLong deletedCommentLikes = new AtomicLong();
+    private final AtomicLong deletedImages = new AtomicLong();
+
+    @Scheduled(fixedDelayString = "${post.purge.interval-ms:5000}")
+    public void purge() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            List<Long> postIds = purgeRepository.findDeletedPostIds(POSTS_PER_RUN);
+            for (Long postId : postIds) {
+                purgePost(postId);
+            }
+            if (!postIds.isEmpty()) {
+                PurgeStats stats = stats();
+                log.info("🧹 게시글 정리: 누적 posts={}, postLikes={}, comments={}, commentLikes={}, images={}, 남은 게시글={}",
+                        stats.purgedPosts(), stats.deletedPostLikes(), stats.deletedComments(),
+                        stats.deletedCommentLikes(), stats.deletedImages(), stats.pendingPosts());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void purgePost(Long postId) {
+        long start = System.currentTimeMillis();
+
+        deletedPostLikes.addAndGet(deleteInChunks(() -> purgeRepository.deletePostLikes(postId, DELETE_CHUNK)));
+
+        List<Long> commentIds;
+        while (!(commentIds = purgeRepository.findCommentIds(postId, COMMENT_CHUNK)).isEmpty()) {
+            List<Long> ids = commentIds;
+            deletedCommentLikes.addAndGet(deleteInChunks(() -> purgeRepository.deleteCommentLikes(ids, DELETE_CHUNK)));
+            deletedComments.addAndGet(purgeRepository.deleteComments(ids));
+            redissonClient.getKeys().delete(ids.stream().map(id -> "comment:like:" + id).toArray(String[]::new));
+        }
+
+        deletedImages.addAndGet(deleteInChunks(() -> purgeRepository.deletePostImages(postId, DELETE_CHUNK)));
+        deleteInChunks(() -> purgeRepository.deletePostHashtags(postId, DELETE_CHUNK));
+
+        purgeRepository.deletePost(postId);
+        redissonClient.getKeys().delete(PostLikeCounter.allKeys(postId));
+        redissonClient.getKeys().delete(PostCommentCounter.key(postId));
+        purgedPosts.incrementAndGet();
+        log.info("🧹 게시글 {} 정리 완료: {}ms", postId, System.currentTimeMillis() - start);
+    }
+
+    public PurgeStats stats() {
+        return new PurgeStats(purgedPosts.get(), deletedPostLikes.get(), deletedComments.get(),
+                deletedCommentLikes.get(), deletedImages.get(), purgeRepository.countDeleted());
+    }
+
+    private long deleteInChunks(ChunkDelete delete) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = delete.run();
+            total += deleted;
+        } while (deleted == DELETE_CHUNK);
+        return total;
+    }
+
+    @FunctionalInterface
+    private interface ChunkDelete {
+        int run();
+    }
+
+    public record PurgeStats(long purgedPosts, long deletedPostLikes, long deletedComments,
+                             long deletedCommentLikes, long deletedImages, long pendingPosts) {
+    }
+}
@@ -2,20 +2,28 @@ package com.example.demo.domain.post.post.service;
 
 import com.example.demo.domain.member.user.entity.User;
 import com.example.demo.domain.member.user.repository.UserRepository;
-import com.example.demo.domain.post.like.repository.PostLikeRepository;
-import com.example.demo.domain.post.like.service.PostLikeTransaction;
+import com.example.demo.domain.post.comment.service.PostCommentCounter;
+import com.example.demo.domain.post.hashtag.service.HashtagService;
+import com.example.demo.domain.post.like.service.LikedSetCache;
+import com.example.demo.domain.post.like.service.PostLikeCounter;
+import com.example.demo.domain.post.post.cache.PostDetailCache;
+import com.example.demo.domain.post.post.cache.PostSnapshot;
 import com.example.demo.domain.post.post.controller.dto.*;
 import com.example.demo.domain.post.post.entity.Post;
 import com.example.demo.domain.post.post.entity.PostImage;
+import com.example.demo.domain.post.post.event.PostChangedEvent;
+import com.example.demo.domain.post.post.event.PostImagesChangedEvent;
 import com.example.demo.domain.post.post.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,9 +31,13 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final PostLikeTransaction postLikeTransaction;
-    private final RedissonClient redissonClient;
-    private final PostLikeRepository likeRepository;
+    private final LikedSetCache likedSetCache;
+    private final PostLikeCounter postLikeCounter;
+    private final PostDetailCache postDetailCache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HashtagService hashtagService;
+    private final PostCommentCounter postCommentCounter;
 
     @Transactional
     public Long createPost(Long userId, PostCreateRequest request) {
@@ -49,12 +61,15 @@ public class PostService {
         }
 
         Post saved = postRepository.save(post);
+        hashtagService.replaceTags(saved.getPostId(), saved.getContent(), !author.isPrivate());
+        eventPublisher.publishEvent(new PostChangedEvent(saved.getPostId()));
+        eventPublisher.publishEvent(new PostImagesChangedEvent(saved.getPostId()));
         return saved.getPostId();
     }
 
     @Transactional
     public void updatePost(Long postId, PostUpdateRequest request, Long userId) {
-        Post post = postRepository.findById(postId)
+        Post post = postRepository.findDetailByPostId(postId)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
 
         if (!post.getAuthor().getId().equals(userId)) {
@@ -64,44 +79,64 @@ public class PostService {
         post.setTitle(request.getTitle());
         post.setContent(request.getContent());
 
+        // 그대로 남는 이미지는 이미 만든 썸네일을 재사용
+        Map<String, PostImage> previous = post.getImages().stream()
+                .collect(Collectors.toMap(PostImage::getImageURL, Function.identity(), (a, b) -> a));
+
         post.clearImages(); // 기존 이미지 제거
         for (String url : request.getImageUrls()) {
             PostImage image = new PostImage();
             image.setImageURL(url);
+            PostImage old = previous.get(url);
+            if (old != null) {
+                image.setThumbnailUrl(old.getThumbnailUrl());
+                image.setMediumUrl(old.getMediumUrl());
+            }
             post.addImage(image);
         }
 
+        hashtagService.replaceTags(postId, request.getContent(), !post.getAuthor().isPrivate());
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+        eventPublisher.publishEvent(new PostImagesChangedEvent(postId));
     }
 
+    // 보는 사람과 무관한 부분은 캐시에서, 좋아요 여부/실시간 좋아요·댓글 수만 매번 조회
     public PostResponse getPost(Long postId, Long userId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
+        PostSnapshot snapshot = postDetailCache.get(postId);
 
-        boolean liked = userId != null &&
-                likeRepository.existsByPostPostIdAndUserId(postId, userId);
+        boolean liked = likedSetCache.isPostLiked(userId, postId);
 
-        String redisKey = "post:like:" + postId;
-        long likeCount = redissonClient.getAtomicLong(redisKey).isExists()
-                ? redissonClient.getAtomicLong(redisKey).get()
-                : post.getLikeCount().longValue();
+        // 좋아요 수는 샤드 합계가 로컬에 캐시될 수 있어 PostLikeCounter 로, 댓글 수는 GET 한 번
+        Long likeCounter = postLikeCounter.get(postId);
+        String commentCounter = stringRedisTemplate.opsForValue().get(PostCommentCounter.key(postId));
+        long likeCount = likeCounter != null
+                ? likeCounter
+                : snapshot.getLikeCount().longValue();
+        int commentCount = commentCounter != null
+                ? Integer.parseInt(commentCounter)
+                : (snapshot.getCommentCount() != null ? snapshot.getCommentCount() : 0);
 
-        return new PostResponse(post, (int) likeCount, liked, userId);
+        return new PostResponse(snapshot, (int) likeCount, commentCount, liked, userId);
     }
 
     @Transactional
     public void deletePost(Long postId, Long userId) {
-        Post post = postRepository.findById(postId)
+        Post post = postRepository.findWithAuthorByPostId(postId)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
 
         if (!post.getAuthor().getId().equals(userId)) {
             throw new RuntimeException("게시글을 삭제할 권한이 없습니다.");
         }
 
-        postRepository.delete(post);
+        // 즉시 숨기고 좋아요/댓글/이미지 정리는 PostPurger 가 나눠서 처리
+        post.markDeleted();
+        hashtagService.unindex(postId, !post.getAuthor().isPrivate());
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
     public List<PostSummaryResponse> getAllPosts() {
         List<Post> posts = postRepository.findAll(); // 정렬 필요 시 .findAllByOrderByUpdatedAtDesc() 등으로 확장 가능
+        Map<Long, Integer> commentCounts = postCommentCounter.liveCounts(posts.stream().map(Post::getPostId).toList());
 
         return posts.stream()
                 .map(post -> PostSummaryResponse.builder()
@@ -110,9 +145,10 @@ public class PostService {
                         .authorNickname(post.getAuthor().getNickname())
                         .createdAt(post.getUpdatedAt()) // createdAt 없다면 updatedAt으로 대체
                         .likeCount(post.getLikeCount())
+                        .commentCount(PostCommentCounter.resolve(commentCounts, post.getPostId(), post.getCommentCount()))
                         .thumbnailUrls(
                                 post.getImages().stream()
-                                        .map(PostImage::getImageURL)
+                                        .map(PostImage::getThumbnailOrOriginal)
                                         .limit(1) // 썸네일용 첫 이미지
                                         .toList()
                         )
@@ -0,0 +1,40 @@
+package com.example.demo.domain.post.search.controller;
+
+import com.example.demo.domain.post.search.controller.dto.PostSearchResponse;
+import com.example.demo.domain.post.search.service.PostEsReindexJob;
+import com.example.demo.domain.post.search.service.PostSearchService;
+import com.example.demo.global.auth.jwt.JwtAuthentication;
+import com.example.demo.global.exception.AccessDeniedException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/posts/search")
+@RequiredArgsConstructor
+public class PostSearchController {
+
+    private final PostSearchService postSearchService;
+    private final PostEsReindexJob postEsReindexJob;
+
+    // 게시글 검색 (제목/본문/작성자)
+    @GetMapping
+    public ResponseEntity<PostSearchResponse> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + PostSearchService.DEFAULT_PAGE_SIZE) int size,
+            JwtAuthentication auth
+    ) {
+        return ResponseEntity.ok(postSearchService.search(q, auth.getUserId(), page, size));
+    }
+
+    // post 검색 인덱스 전체 재색인 (관리자) - 백그라운드로 돌고 바로 반환
+    @PostMapping("/reindex")
+    public ResponseEntity<Void> reindex(JwtAuthentication auth) {
+        if (!auth.isAdmin()) {
+            throw new AccessDeniedException("관리자만 재색인할 수 있습니다.");
+        }
+        postEsReindexJob.reindexAsync();
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.domain.post.search.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSearchHit {
+    private Long postId;
+    private String title;
+    private Long authorId;
+    private String authorNickname;
+    private String imageUrl;
+    private List<String> titleHighlights;    // 일치 부분이 <em> 으로 감싸진 조각
+    private List<String> contentHighlights;
+}
@@ -0,0 +1,15 @@
+package com.example.demo.domain.post.search.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class PostSearchResponse {
+    private long total;
+    private int page;
+    private int size;
+    private List<PostSearchHit> hits;
+}
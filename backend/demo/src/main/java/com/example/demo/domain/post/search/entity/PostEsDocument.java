@@ -0,0 +1,33 @@
+package com.example.demo.domain.post.search.entity;
+
+import com.example.demo.domain.post.post.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostEsDocument {
+    private Long postId;
+    private String title;
+    private String content;
+    private Long authorId;
+    private String authorNickname;
+    private boolean authorPrivate;
+    private String imageUrl;
+
+    public static PostEsDocument from(Post post) {
+        return PostEsDocument.builder()
+                .postId(post.getPostId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .authorId(post.getAuthor().getId())
+                .authorNickname(post.getAuthor().getNickname())
+                .authorPrivate(post.getAuthor().isPrivate())
+                .imageUrl(post.getFirstImageUrl())
+                .build();
+    }
+}
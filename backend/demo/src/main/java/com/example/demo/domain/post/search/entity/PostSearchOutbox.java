@@ -0,0 +1,33 @@
+package com.example.demo.domain.post.search.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 검색 색인 갱신 대기열 (outbox).
+ * 게시글 작성/수정/삭제, 작성자 닉네임/공개 여부 변경과 같은 트랜잭션에서 기록되고 PostEsBulkIndexer 가 반영 후 삭제한다.
+ */
+@Entity
+@Table(name = "post_search_outbox")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class PostSearchOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long postId;
+
+    @CreatedDate
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,20 @@
+package com.example.demo.domain.post.search.repository;
+
+import com.example.demo.domain.post.search.entity.PostSearchOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PostSearchOutboxRepository extends JpaRepository<PostSearchOutbox, Long> {
+
+    List<PostSearchOutbox> findTop500ByOrderByIdAsc();
+
+    // 작성자 정보가 바뀌면 그 작성자의 게시글 전체를 한 문장으로 대기열에 넣는다
+    @Modifying
+    @Query(value = "INSERT INTO post_search_outbox (post_id, created_at) " +
+            "SELECT post_id, NOW(6) FROM post WHERE author = :authorId AND deleted = false", nativeQuery = true)
+    int enqueueByAuthor(@Param("authorId") Long authorId);
+}
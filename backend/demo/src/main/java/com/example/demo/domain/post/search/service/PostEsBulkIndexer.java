@@ -0,0 +1,125 @@
+package com.example.demo.domain.post.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import com.example.demo.domain.post.post.entity.Post;
+import com.example.demo.domain.post.post.repository.PostRepository;
+import com.example.demo.domain.post.search.entity.PostEsDocument;
+import com.example.demo.domain.post.search.entity.PostSearchOutbox;
+import com.example.demo.domain.post.search.repository.PostSearchOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * post_search_outbox 를 주기적으로 읽어 post 인덱스에 _bulk 로 반영한다. (UserEsBulkIndexer 와 같은 방식)
+ * 색인 시점의 DB 값을 다시 읽으므로 삭제(soft delete 포함)된 게시글은 문서 삭제로 처리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostEsBulkIndexer {
+
+    public static final String REINDEX_TARGET_KEY = "post:es:reindex-target";
+    private static final String LOCK_KEY = "lock:post:es:indexer";
+    private static final long BASE_BACKOFF_MS = 1000;
+    private static final long MAX_BACKOFF_MS = 60_000;
+
+    private final PostSearchOutboxRepository outboxRepository;
+    private final PostRepository postRepository;
+    private final ElasticsearchClient elasticsearchClient;
+    private final RedissonClient redissonClient;
+
+    // @Scheduled 단일 스레드에서만 접근
+    private int consecutiveFailures = 0;
+    private long nextAttemptAt = 0;
+
+    @Scheduled(fixedDelayString = "${post.search.indexer.interval-ms:1000}")
+    public void flush() {
+        if (System.currentTimeMillis() < nextAttemptAt) {
+            return;
+        }
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            List<PostSearchOutbox> events = outboxRepository.findTop500ByOrderByIdAsc();
+            if (events.isEmpty()) {
+                return;
+            }
+
+            Set<Long> failedPostIds = sendBulk(events);
+            List<Long> doneIds = events.stream()
+                    .filter(e -> !failedPostIds.contains(e.getPostId()))
+                    .map(PostSearchOutbox::getId)
+                    .toList();
+            outboxRepository.deleteAllByIdInBatch(doneIds);
+
+            if (failedPostIds.isEmpty()) {
+                consecutiveFailures = 0;
+            } else {
+                backOff("일부 문서 색인 실패: " + failedPostIds);
+            }
+        } catch (IOException | ElasticsearchException e) {
+            backOff(e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Set<Long> sendBulk(List<PostSearchOutbox> events) throws IOException {
+        Set<Long> postIds = events.stream()
+                .map(PostSearchOutbox::getPostId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, Post> posts = postRepository.findAllWithAuthorByPostIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getPostId, Function.identity()));
+
+        // 재색인 중이면 새 인덱스에도 같이 기록
+        List<String> targets = new ArrayList<>();
+        targets.add(PostEsIndexManager.INDEX);
+        String reindexTarget = redissonClient.<String>getBucket(REINDEX_TARGET_KEY).get();
+        if (reindexTarget != null) {
+            targets.add(reindexTarget);
+        }
+
+        BulkRequest.Builder bulk = new BulkRequest.Builder();
+        for (Long postId : postIds) {
+            Post post = posts.get(postId);
+            for (String index : targets) {
+                if (post == null) {
+                    bulk.operations(op -> op.delete(d -> d.index(index).id(String.valueOf(postId))));
+                } else {
+                    PostEsDocument doc = PostEsDocument.from(post);
+                    bulk.operations(op -> op.index(i -> i.index(index).id(String.valueOf(postId)).document(doc)));
+                }
+            }
+        }
+
+        BulkResponse response = elasticsearchClient.bulk(bulk.build());
+        if (!response.errors()) {
+            return Set.of();
+        }
+        return response.items().stream()
+                .filter(item -> item.error() != null)
+                .map(item -> Long.valueOf(item.id()))
+                .collect(Collectors.toSet());
+    }
+
+    private void backOff(String reason) {
+        consecutiveFailures++;
+        long delay = Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << Math.min(consecutiveFailures, 6));
+        nextAttemptAt = System.currentTimeMillis() + delay;
+        log.warn("post 색인 실패 ({}회 연속) - {}ms 후 재시도: {}", consecutiveFailures, delay, reason);
+    }
+}
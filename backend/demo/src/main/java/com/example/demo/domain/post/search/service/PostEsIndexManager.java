@@ -0,0 +1,66 @@
+package com.example.demo.domain.post.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import com.example.demo.global.util.EsIndexAliases;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 게시글 검색용 post 인덱스 관리.
+ * 별도 형태소 분석 플러그인 없이 한글 검색이 되도록 제목/본문/작성자 닉네임은 내장 cjk 분석기(bigram)로 색인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostEsIndexManager {
+
+    public static final String INDEX = "post";
+    private static final String ANALYZER = "cjk";
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final EsIndexAliases esIndexAliases;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexIfAbsent() {
+        try {
+            if (!elasticsearchClient.indices().exists(e -> e.index(INDEX)).value()) {
+                String indexName = newVersionName();
+                createIndex(indexName);
+                swapAlias(indexName);
+                log.info("🔍 Elasticsearch 인덱스 생성: {} -> {}", INDEX, indexName);
+            }
+        } catch (IOException | ElasticsearchException e) {
+            log.error("Elasticsearch 인덱스 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    public void createIndex(String indexName) throws IOException {
+        elasticsearchClient.indices().create(c -> c
+                .index(indexName)
+                .mappings(m -> m
+                        .properties("postId", p -> p.long_(l -> l))
+                        .properties("title", p -> p.text(t -> t.analyzer(ANALYZER)))
+                        .properties("content", p -> p.text(t -> t.analyzer(ANALYZER)))
+                        .properties("authorId", p -> p.long_(l -> l))
+                        .properties("authorNickname", p -> p.text(t -> t
+                                .analyzer(ANALYZER)
+                                .fields("keyword", f -> f.keyword(k -> k))))
+                        .properties("authorPrivate", p -> p.boolean_(b -> b))
+                        .properties("imageUrl", p -> p.keyword(k -> k.index(false))))
+        );
+    }
+
+    public String newVersionName() {
+        return esIndexAliases.newVersionName(INDEX);
+    }
+
+    public void swapAlias(String newIndex) throws IOException {
+        esIndexAliases.swapAlias(INDEX, newIndex);
+    }
+}
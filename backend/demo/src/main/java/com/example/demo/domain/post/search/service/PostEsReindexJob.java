@@ -0,0 +1,101 @@
+package com.example.demo.domain.post.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import com.example.demo.domain.post.post.entity.Post;
+import com.example.demo.domain.post.post.repository.PostRepository;
+import com.example.demo.domain.post.search.entity.PostEsDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * post 테이블 전체를 post_id 순으로 나눠 읽어 새 버전 인덱스에 채운 뒤 post 별칭을 옮긴다. (UserEsReindexJob 와 같은 방식)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostEsReindexJob {
+
+    private static final String LOCK_KEY = "lock:post:es:reindex";
+    private static final int CHUNK_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final PostEsIndexManager indexManager;
+    private final ElasticsearchClient elasticsearchClient;
+    private final RedissonClient redissonClient;
+
+    public void reindexAsync() {
+        CompletableFuture.runAsync(() -> {
+            try {
+                reindex();
+            } catch (Exception e) {
+                log.error("post 재색인 실패", e);
+            }
+        });
+    }
+
+    public String reindex() throws IOException {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            throw new IllegalStateException("이미 재색인이 진행 중입니다.");
+        }
+        RBucket<String> target = redissonClient.getBucket(PostEsBulkIndexer.REINDEX_TARGET_KEY);
+        try {
+            long start = System.currentTimeMillis();
+            String newIndex = indexManager.newVersionName();
+            indexManager.createIndex(newIndex);
+            target.set(newIndex);
+
+            long copied = copyPosts(newIndex);
+            elasticsearchClient.indices().refresh(r -> r.index(newIndex));
+            indexManager.swapAlias(newIndex);
+
+            log.info("🔍 post 재색인 완료: {} ({}건, {}ms)", newIndex, copied, System.currentTimeMillis() - start);
+            return newIndex;
+        } finally {
+            target.delete();
+            lock.unlock();
+        }
+    }
+
+    private long copyPosts(String index) throws IOException {
+        long copied = 0;
+        long lastId = 0L;
+        List<Post> chunk;
+        do {
+            chunk = postRepository.findChunkAfter(lastId, PageRequest.of(0, CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            BulkRequest.Builder bulk = new BulkRequest.Builder();
+            for (Post post : chunk) {
+                PostEsDocument doc = PostEsDocument.from(post);
+                // 복사 중 bulk indexer 가 먼저 넣은 최신 문서는 덮어쓰지 않도록 create
+                bulk.operations(op -> op.create(c -> c.index(index).id(String.valueOf(doc.getPostId())).document(doc)));
+                lastId = post.getPostId();
+            }
+
+            BulkResponse response = elasticsearchClient.bulk(bulk.build());
+            if (response.errors()) {
+                long failed = response.items().stream()
+                        .filter(item -> item.error() != null && item.status() != 409)
+                        .count();
+                if (failed > 0) {
+                    throw new IllegalStateException("재색인 중 문서 " + failed + "건 실패 (lastId=" + lastId + ")");
+                }
+            }
+            copied += chunk.size();
+        } while (chunk.size() == CHUNK_SIZE);
+        return copied;
+    }
+}
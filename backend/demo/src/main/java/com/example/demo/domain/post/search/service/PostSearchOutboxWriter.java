@@ -0,0 +1,36 @@
+package com.example.demo.domain.post.search.service;
+
+import com.example.demo.domain.member.user.event.UserNicknameChangedEvent;
+import com.example.demo.domain.member.user.event.UserPrivacyChangedEvent;
+import com.example.demo.domain.post.post.event.PostChangedEvent;
+import com.example.demo.domain.post.search.entity.PostSearchOutbox;
+import com.example.demo.domain.post.search.repository.PostSearchOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 동기 리스너 - 게시글/작성자 변경과 같은 트랜잭션에서 outbox 가 기록된다
+@Component
+@RequiredArgsConstructor
+public class PostSearchOutboxWriter {
+
+    private final PostSearchOutboxRepository outboxRepository;
+
+    @EventListener
+    public void onPostChanged(PostChangedEvent event) {
+        outboxRepository.save(PostSearchOutbox.builder()
+                .postId(event.getPostId())
+                .build());
+    }
+
+    // 작성자 닉네임은 게시글 문서에 들어 있으므로 작성자의 게시글을 모두 다시 색인
+    @EventListener
+    public void onNicknameChanged(UserNicknameChangedEvent event) {
+        outboxRepository.enqueueByAuthor(event.getUserId());
+    }
+
+    @EventListener
+    public void onPrivacyChanged(UserPrivacyChangedEvent event) {
+        outboxRepository.enqueueByAuthor(event.getUserId());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.demo.domain.post.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.CountRequest;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.example.demo.domain.post.search.controller.dto.PostSearchHit;
+import com.example.demo.domain.post.search.controller.dto.PostSearchResponse;
+import com.example.demo.domain.post.search.entity.PostEsDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 게시글 검색 (제목/본문/작성자 닉네임). 결과는 Elasticsearch 문서만으로 만들고 MySQL 은 조회하지 않는다.
+ * 비공개 계정의 게시글은 본인 검색에서만 나온다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_RESULT_WINDOW = 1000; // 깊은 페이지는 점수 계산 비용이 커서 제한
+
+    private final ElasticsearchClient elasticsearchClient;
+
+    public PostSearchResponse search(String keyword, Long viewerId, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int from = Math.max(0, page) * pageSize;
+        if (keyword == null || keyword.isBlank()) {
+            return new PostSearchResponse(0, page, pageSize, List.of());
+        }
+        Query query = buildQuery(keyword, viewerId);
+
+        try {
+            // 창 밖 페이지는 문서를 가져오지 않고 전체 개수만 알려준다
+            if (from + pageSize > MAX_RESULT_WINDOW) {
+                long total = elasticsearchClient.count(CountRequest.of(c -> c
+                        .index(PostEsIndexManager.INDEX)
+                        .query(query))).count();
+                return new PostSearchResponse(total, page, pageSize, List.of());
+            }
+
+            SearchResponse<PostEsDocument> response = elasticsearchClient.search(SearchRequest.of(s -> s
+                            .index(PostEsIndexManager.INDEX)
+                            .from(from)
+                            .size(pageSize)
+                            .query(query)
+                            .highlight(h -> h
+                                    .preTags("<em>")
+                                    .postTags("</em>")
+                                    .fields("title", f -> f.numberOfFragments(0))
+                                    .fields("content", f -> f.fragmentSize(100).numberOfFragments(2)))),
+                    PostEsDocument.class
+            );
+
+            List<PostSearchHit> hits = response.hits().hits().stream()
+                    .filter(hit -> hit.source() != null)
+                    .map(this::toHit)
+                    .toList();
+            long total = response.hits().total() != null ? response.hits().total().value() : hits.size();
+            return new PostSearchResponse(total, page, pageSize, hits);
+
+        } catch (IOException e) {
+            throw new RuntimeException("Elasticsearch 게시글 검색 실패", e);
+        }
+    }
+
+    // 제목 > 닉네임 > 본문 가중치, 공개 계정 글 또는 본인 글만
+    private Query buildQuery(String keyword, Long viewerId) {
+        return Query.of(q -> q.bool(b -> b
+                .must(m -> m.multiMatch(mm -> mm
+                        .query(keyword)
+                        .fields("title^3", "authorNickname^2", "content")))
+                .filter(f -> f.bool(v -> {
+                    v.should(sh -> sh.term(t -> t.field("authorPrivate").value(false)));
+                    if (viewerId != null) {
+                        v.should(sh -> sh.term(t -> t.field("authorId").value(viewerId)));
+                    }
+                    return v.minimumShouldMatch("1");
+                }))));
+    }
+
+    private PostSearchHit toHit(Hit<PostEsDocument> hit) {
+        PostEsDocument doc = Objects.requireNonNull(hit.source());
+        return PostSearchHit.builder()
+                .postId(doc.getPostId())
+                .title(doc.getTitle())
+                .authorId(doc.getAuthorId())
+                .authorNickname(doc.getAuthorNickname())
+                .imageUrl(doc.getImageUrl())
+                .titleHighlights(hit.highlight().getOrDefault("title", List.of()))
+                .contentHighlights(hit.highlight().getOrDefault("content", List.of()))
+                .build();
+    }
+}
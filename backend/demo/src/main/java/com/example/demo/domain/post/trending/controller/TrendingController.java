@@ -0,0 +1,29 @@
+package com.example.demo.domain.post.trending.controller;
+
+import com.example.demo.domain.post.trending.controller.dto.TrendingPostResponse;
+import com.example.demo.domain.post.trending.service.TrendingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/explore")
+@RequiredArgsConstructor
+public class TrendingController {
+
+    private final TrendingService trendingService;
+
+    // 탐색 탭 인기 게시글 (미리 계산된 순위)
+    @GetMapping
+    public ResponseEntity<List<TrendingPostResponse>> explore(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "30") int size
+    ) {
+        return ResponseEntity.ok(trendingService.getExplore(Math.max(page, 0), Math.max(1, Math.min(size, 100))));
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.domain.post.trending.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TrendingPostResponse {
+    private Long postId;
+    private String imageUrl;
+}
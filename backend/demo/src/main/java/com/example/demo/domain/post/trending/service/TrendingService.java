@@ -0,0 +1,178 @@
+package com.example.demo.domain.post.trending.service;
+
+import com.example.demo.domain.member.follow.event.FollowedEvent;
+import com.example.demo.domain.post.post.event.PostEngagementEvent;
+import com.example.demo.domain.post.post.repository.PostGridItem;
+import com.example.demo.domain.post.post.repository.PostRepository;
+import com.example.demo.domain.post.trending.controller.dto.TrendingPostResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 탐색 탭 인기 게시글.
+ *
+ * - 좋아요/댓글/팔로우가 커밋되면 postId % SHARDS 샤드 sorted set 에 가중치만큼 ZINCRBY 한다.
+ *   좋아요/팔로우는 취소 후 다시 눌러 점수를 계속 올릴 수 없도록 (사용자, 대상)별 첫 번째만 반영한다 (SETNX, SCORED_TTL 동안).
+ * - 주기적으로 지난 실행 이후 경과 시간만큼 모든 점수에 2^(-경과/반감기) 를 곱해(ZUNIONSTORE WEIGHTS) 오래된 반응의 비중을 줄이고,
+ *   너무 작아진 점수와 샤드별 상위 MAX_PER_SHARD 밖의 게시글은 잘라낸다.
+ * - 같은 작업에서 샤드별 상위 EXPLORE_SIZE 를 합쳐 trending:explore 를 새로 만들어 두므로, 탐색 탭 조회는 ZREVRANGE 한 번이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+    public static final String EXPLORE_KEY = "trending:explore";
+    private static final String SHARD_PREFIX = "trending:posts:";
+    private static final String DECAYED_AT_KEY = "trending:decayed-at";
+    private static final String LOCK_KEY = "lock:trending:maintain";
+    private static final String SCORED_PREFIX = "trending:scored:";
+    private static final Duration SCORED_TTL = Duration.ofHours(48); // 반감기 8번 - 이후 다시 반영돼도 처음 점수는 1/256 이하로 줄어든 뒤
+    private static final int SHARDS = 8;
+    private static final int EXPLORE_SIZE = 500;
+    private static final int MAX_PER_SHARD = 5000;
+    private static final double HALF_LIFE_MS = 6 * 60 * 60 * 1000.0; // 6시간마다 점수 절반
+    private static final double MIN_SCORE = 0.05;
+
+    private static final double LIKE_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 3.0;
+    private static final double FOLLOW_WEIGHT = 5.0;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedissonClient redissonClient;
+    private final PostRepository postRepository;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEngagement(PostEngagementEvent event) {
+        if (!event.isPublicPost()) {
+            return;
+        }
+        if (event.getType() == PostEngagementEvent.Type.LIKE) {
+            if (firstTime("like:" + event.getActorId() + ":" + event.getPostId())) {
+                bump(event.getPostId(), LIKE_WEIGHT);
+            }
+            return;
+        }
+        bump(event.getPostId(), COMMENT_WEIGHT);
+    }
+
+    // 새 팔로워는 작성자의 가장 최근 게시글 점수로 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowed(FollowedEvent event) {
+        if (!event.isPublicPost()) {
+            return;
+        }
+        if (!firstTime("follow:" + event.getFollowerId() + ":" + event.getFollowingId())) {
+            return;
+        }
+        Long latestPostId = postRepository.findLatestPostIdByAuthorId(event.getFollowingId());
+        if (latestPostId != null) {
+            bump(latestPostId, FOLLOW_WEIGHT);
+        }
+    }
+
+    public List<TrendingPostResponse> getExplore(int page, int size) {
+        long start = (long) page * size;
+        Set<String> ranked = stringRedisTemplate.opsForZSet().reverseRange(EXPLORE_KEY, start, start + size - 1);
+        if (ranked == null || ranked.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> postIds = ranked.stream().map(Long::valueOf).toList();
+        // 삭제/비공개 전환된 게시글은 여기서 빠진다
+        Map<Long, PostGridItem> items = postRepository.findPublicGridItemsByIds(postIds).stream()
+                .collect(Collectors.toMap(PostGridItem::getPostId, Function.identity()));
+
+        return postIds.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .map(item -> new TrendingPostResponse(item.getPostId(), item.getFirstImageUrl()))
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${trending.maintain.interval-ms:30000}")
+    public void maintain() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            decay();
+            rebuildExplore();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean firstTime(String engagement) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(SCORED_PREFIX + engagement, "1", SCORED_TTL));
+    }
+
+    private void bump(Long postId, double weight) {
+        stringRedisTemplate.opsForZSet().incrementScore(shardKey(postId), String.valueOf(postId), weight);
+    }
+
+    private void decay() {
+        long now = System.currentTimeMillis();
+        String last = stringRedisTemplate.opsForValue().get(DECAYED_AT_KEY);
+        stringRedisTemplate.opsForValue().set(DECAYED_AT_KEY, String.valueOf(now));
+        if (last == null) {
+            return;
+        }
+
+        double factor = Math.pow(2, -(now - Long.parseLong(last)) / HALF_LIFE_MS);
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+        for (int shard = 0; shard < SHARDS; shard++) {
+            String key = SHARD_PREFIX + shard;
+            zSet.unionAndStore(key, List.of(), key, Aggregate.SUM, Weights.of(factor));
+            zSet.removeRangeByScore(key, Double.NEGATIVE_INFINITY, MIN_SCORE);
+            zSet.removeRange(key, 0, -(MAX_PER_SHARD + 1));
+        }
+    }
+
+    private void rebuildExplore() {
+        List<TypedTuple<String>> merged = new ArrayList<>();
+        for (int shard = 0; shard < SHARDS; shard++) {
+            Set<TypedTuple<String>> top = stringRedisTemplate.opsForZSet()
+                    .reverseRangeWithScores(SHARD_PREFIX + shard, 0, EXPLORE_SIZE - 1);
+            if (top != null) {
+                merged.addAll(top);
+            }
+        }
+        if (merged.isEmpty()) {
+            stringRedisTemplate.delete(EXPLORE_KEY);
+            return;
+        }
+
+        Set<TypedTuple<String>> explore = merged.stream()
+                .sorted(Comparator.comparing(TypedTuple<String>::getScore, Comparator.nullsLast(Comparator.reverseOrder())))
+                .limit(EXPLORE_SIZE)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        // 임시 키에 만든 뒤 RENAME 으로 교체해 조회 중에 빈 목록이 보이지 않게 한다
+        String tempKey = EXPLORE_KEY + ":building";
+        stringRedisTemplate.delete(tempKey);
+        stringRedisTemplate.opsForZSet().add(tempKey, explore);
+        stringRedisTemplate.rename(tempKey, EXPLORE_KEY);
+    }
+
+    private String shardKey(Long postId) {
+        return SHARD_PREFIX + Math.floorMod(postId, SHARDS);
+    }
+}
@@ -21,6 +21,10 @@ public class JwtAuthentication implements Authentication {
 
     private UserRole userRole;
 
+    public boolean isAdmin() {
+        return userRole != null && userRole.isAdmin();
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         Collection<GrantedAuthority> authorities = new ArrayList<>();
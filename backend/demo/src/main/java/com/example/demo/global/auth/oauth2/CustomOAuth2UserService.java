@@ -1,23 +1,22 @@
 package com.example.demo.global.auth.oauth2;
 
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import com.example.demo.domain.member.user.entity.User;
 import com.example.demo.domain.member.user.entity.UserDocument;
-import com.example.demo.domain.member.user.entity.UserEsDocument;
+import com.example.demo.domain.member.user.event.UserNicknameChangedEvent;
 import com.example.demo.domain.member.user.repository.UserMongoRepository;
 import com.example.demo.domain.member.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.util.Map;
 
 @Slf4j
@@ -27,7 +26,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
     private final UserMongoRepository userMongoRepository;
-    private final ElasticsearchClient elasticsearchClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Getter
     private User user;
@@ -66,7 +65,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             isNewUser = true;
             user = userRepository.save(oAuth2UserInfo.toEntity());
 //            syncWithMongo(user);
-            syncWithElasticsearch(user);
+            eventPublisher.publishEvent(new UserNicknameChangedEvent(user.getId(), user.getNickname()));
         }
     }
 
@@ -74,17 +73,4 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         userMongoRepository.save(UserDocument.from(user));
     }
 
-    private void syncWithElasticsearch(User user) {
-        try {
-            UserEsDocument doc = UserEsDocument.from(user);
-            elasticsearchClient.index(i -> i
-                    .index("user") // 인덱스 이름 (이미 사용하는 거 유지)
-                    .id(doc.getId()) // 고유 ID 설정
-                    .document(doc)
-            );
-        } catch (IOException e) {
-            log.error("Elasticsearch 저장 실패: {}", e.getMessage(), e);
-        }
-    }
-
 }
@@ -0,0 +1,31 @@
+package com.example.demo.global.config.asynchronous;
+
+import com.example.demo.domain.chat.producer.ChatKafkaProducer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+/**
+ * 채팅 토픽 파티션 설정.
+ * 메시지 키가 roomId 이므로 같은 방은 항상 같은 파티션으로 가고, 파티션 하나는 리스너 스레드 하나가 순서대로 처리한다.
+ * 처리량은 파티션 수(= 리스너 concurrency 합계)만큼 늘어나며, 노드를 추가하면 같은 그룹 안에서 파티션이 재분배된다.
+ * 파티션 수를 늘리면 키 → 파티션 매핑이 바뀌므로 트래픽이 적은 시간에 조정해야 한다 (줄이는 것은 불가).
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    @Bean
+    public KafkaAdmin.NewTopics chatTopics(
+            @Value("${chat.kafka.partitions:6}") int partitions,
+            @Value("${chat.kafka.replicas:1}") short replicas
+    ) {
+        return new KafkaAdmin.NewTopics(
+                TopicBuilder.name(ChatKafkaProducer.TOPIC)
+                        .partitions(partitions)
+                        .replicas(replicas)
+                        .build()
+        );
+    }
+}
@@ -1,11 +1,22 @@
 package com.example.demo.global.config.asynchronous;
 
+import com.example.demo.domain.chat.auth.ChatParticipantCacheSync;
+import com.example.demo.domain.chat.service.ChatEphemeralRelay;
+import com.example.demo.domain.chat.service.ChatReadReceiptService;
 import com.example.demo.domain.chat.subscriber.RedisChatSubscriber;
+import com.example.demo.domain.chat.subscriber.RedisEphemeralSubscriber;
+import com.example.demo.domain.chat.subscriber.RedisReadReceiptSubscriber;
+import com.example.demo.domain.member.user.search.NicknameSearchIndexSync;
+import com.example.demo.domain.notice.publisher.RedisNotificationPublisher;
+import com.example.demo.domain.notice.subscriber.RedisNotificationBatchSubscriber;
 import com.example.demo.domain.notice.subscriber.RedisNotificationSubscriber;
+import com.example.demo.domain.post.post.cache.PostCacheInvalidationSubscriber;
+import com.example.demo.domain.post.post.cache.PostDetailCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
@@ -14,15 +25,27 @@ import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 public class RedisSubscriberConfig {
 
     private final RedisChatSubscriber redisChatSubscriber;
+    private final RedisReadReceiptSubscriber redisReadReceiptSubscriber;
+    private final RedisEphemeralSubscriber redisEphemeralSubscriber;
     private final RedisConnectionFactory redisConnectionFactory;
     private final RedisNotificationSubscriber redisNotificationSubscriber;
+    private final RedisNotificationBatchSubscriber redisNotificationBatchSubscriber;
+    private final PostCacheInvalidationSubscriber postCacheInvalidationSubscriber;
+    private final NicknameSearchIndexSync nicknameSearchIndexSync;
+    private final ChatParticipantCacheSync chatParticipantCacheSync;
 
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer() {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(redisConnectionFactory);
         container.addMessageListener(redisChatSubscriber, new PatternTopic("chat-channel"));
+        container.addMessageListener(redisReadReceiptSubscriber, new ChannelTopic(ChatReadReceiptService.CHANNEL));
+        container.addMessageListener(redisEphemeralSubscriber, new ChannelTopic(ChatEphemeralRelay.CHANNEL));
         container.addMessageListener(redisNotificationSubscriber, new PatternTopic("notification:*"));
+        container.addMessageListener(redisNotificationBatchSubscriber, new ChannelTopic(RedisNotificationPublisher.BATCH_CHANNEL));
+        container.addMessageListener(postCacheInvalidationSubscriber, new ChannelTopic(PostDetailCache.INVALIDATE_CHANNEL));
+        container.addMessageListener(nicknameSearchIndexSync, new ChannelTopic(NicknameSearchIndexSync.CHANNEL));
+        container.addMessageListener(chatParticipantCacheSync, new ChannelTopic(ChatParticipantCacheSync.CHANNEL));
         return container;
     }
 }
@@ -0,0 +1,43 @@
+package com.example.demo.global.messaging;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 비동기 경로(Kafka → Redis Pub/Sub → WebSocket)에서 본문을 다시 파싱하지 않고 라우팅하기 위한 봉투.
+ * - Kafka : 라우팅 값(roomId / receiverId)은 레코드 키로 전달 (알림 consumer 는 키를 읽고, 채팅 consumer 는 저장하려면 어차피 본문을 파싱한다)
+ * - Redis : "route\n{json}" 형태로 앞에 붙여 전달, 구독 쪽은 첫 줄만 읽고 나머지 바이트를 그대로 소켓으로 보낸다
+ * 본문 JSON 은 처음 만들어진 그대로 전달되므로 중간 단계는 ObjectMapper 를 거치지 않는다.
+ */
+public final class RoutingEnvelope {
+
+    private static final char SEPARATOR = '\n';
+
+    private RoutingEnvelope() {
+    }
+
+    public static String wrap(String route, String payload) {
+        return route + SEPARATOR + payload;
+    }
+
+    // 구분자가 없으면 route 없이 본문만 있는 것으로 본다 (배포 중 섞여 들어오는 이전 형식)
+    public static Envelope unwrap(byte[] body) {
+        for (int i = 0; i < body.length; i++) {
+            if (body[i] == SEPARATOR) {
+                return new Envelope(
+                        new String(body, 0, i, StandardCharsets.UTF_8),
+                        new String(body, i + 1, body.length - i - 1, StandardCharsets.UTF_8));
+            }
+            if (body[i] == '{') {
+                break;
+            }
+        }
+        return new Envelope(null, new String(body, StandardCharsets.UTF_8));
+    }
+
+    public record Envelope(String route, String payload) {
+
+        public boolean hasRoute() {
+            return route != null;
+        }
+    }
+}
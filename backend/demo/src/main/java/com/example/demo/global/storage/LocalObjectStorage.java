@@ -0,0 +1,54 @@
+package com.example.demo.global.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// 로컬 개발/테스트용 파일시스템 저장소
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalObjectStorage(@Value("${storage.local.root:${java.io.tmpdir}/jaewoogram-storage}") String root,
+                              @Value("${storage.local.base-url:/files/}") String baseUrl) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public byte[] read(String key) throws IOException {
+        return Files.readAllBytes(resolve(key));
+    }
+
+    @Override
+    public void write(String key, byte[] bytes, String contentType) throws IOException {
+        Path path = resolve(key);
+        Files.createDirectories(path.getParent());
+        Files.write(path, bytes);
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return baseUrl + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        return url != null && url.startsWith(baseUrl) ? url.substring(baseUrl.length()) : null;
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.global.storage;
+
+import java.io.IOException;
+
+/**
+ * 업로드 파일 저장소. storage.type 으로 구현을 고른다 (s3 / local).
+ */
+public interface ObjectStorage {
+
+    byte[] read(String key) throws IOException;
+
+    void write(String key, byte[] bytes, String contentType) throws IOException;
+
+    String urlOf(String key);
+
+    // 이 저장소가 발급한 URL 이면 key, 외부 URL 이면 null
+    String keyOf(String url);
+}
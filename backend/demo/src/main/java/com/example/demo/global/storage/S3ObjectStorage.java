@@ -0,0 +1,54 @@
+package com.example.demo.global.storage;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage {
+
+    private final AmazonS3 amazonS3;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Override
+    public byte[] read(String key) throws IOException {
+        try (S3Object object = amazonS3.getObject(bucket, key)) {
+            return object.getObjectContent().readAllBytes();
+        }
+    }
+
+    @Override
+    public void write(String key, byte[] bytes, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setContentType(contentType);
+        metadata.setCacheControl("public, max-age=31536000, immutable"); // 파생 이미지는 key 가 바뀌지 않는 한 불변
+        amazonS3.putObject(bucket, key, new ByteArrayInputStream(bytes), metadata);
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return baseUrl() + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        return url != null && url.startsWith(baseUrl()) ? url.substring(baseUrl().length()) : null;
+    }
+
+    // S3Controller 가 내려주는 s3Url 과 같은 형식
+    private String baseUrl() {
+        return "https://" + bucket + ".s3.amazonaws.com/";
+    }
+}
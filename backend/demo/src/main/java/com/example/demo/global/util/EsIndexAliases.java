@@ -0,0 +1,50 @@
+package com.example.demo.global.util;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 별칭 기반 Elasticsearch 인덱스 교체.
+ * 실제 인덱스는 {alias}_{버전} 이름으로 만들고, 검색/색인은 별칭으로 해서 재색인 후 별칭만 옮긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EsIndexAliases {
+
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final ElasticsearchClient elasticsearchClient;
+
+    public String newVersionName(String alias) {
+        return alias + "_" + LocalDateTime.now().format(VERSION_FORMAT);
+    }
+
+    /**
+     * alias 를 newIndex 로 원자적으로 옮긴다.
+     * 별칭 도입 전에 같은 이름의 실제 인덱스가 있으면 같은 요청에서 삭제해 이름을 비운다.
+     * 이전 버전 인덱스는 롤백용으로 남겨 둔다.
+     */
+    public void swapAlias(String alias, String newIndex) throws IOException {
+        List<Action> actions = new ArrayList<>();
+        if (elasticsearchClient.indices().existsAlias(e -> e.name(alias)).value()) {
+            for (String old : elasticsearchClient.indices().getAlias(g -> g.name(alias)).result().keySet()) {
+                if (!old.equals(newIndex)) {
+                    actions.add(Action.of(a -> a.remove(r -> r.index(old).alias(alias))));
+                }
+            }
+        } else if (elasticsearchClient.indices().exists(e -> e.index(alias)).value()) {
+            actions.add(Action.of(a -> a.removeIndex(r -> r.index(alias))));
+        }
+        actions.add(Action.of(a -> a.add(ad -> ad.index(newIndex).alias(alias))));
+
+        elasticsearchClient.indices().updateAliases(u -> u.actions(actions));
+    }
+}
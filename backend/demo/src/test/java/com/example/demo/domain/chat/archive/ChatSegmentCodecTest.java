@@ -0,0 +1,48 @@
+package com.example.demo.domain.chat.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("채팅 보관 묶음 압축 단위 테스트")
+class ChatSegmentCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ChatSegmentCodec codec = new ChatSegmentCodec(objectMapper);
+
+    @Test
+    @DisplayName("1. 압축 후 해제하면 같은 메시지 목록")
+    void encodeDecode_roundTrip() {
+        List<ArchivedMessage> messages = messages(3);
+
+        List<ArchivedMessage> decoded = codec.decode(codec.encode(messages));
+
+        assertThat(decoded).containsExactlyElementsOf(messages);
+    }
+
+    @Test
+    @DisplayName("2. 반복이 많은 대화는 원본 JSON 보다 작게 저장")
+    void encode_compresses() throws Exception {
+        List<ArchivedMessage> messages = messages(500);
+
+        int raw = objectMapper.writeValueAsString(messages).getBytes(StandardCharsets.UTF_8).length;
+        int compressed = codec.encode(messages).length;
+
+        assertThat(compressed).isLessThan(raw / 3);
+    }
+
+    private List<ArchivedMessage> messages(int count) {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(i -> new ArchivedMessage(i, i % 2 + 1, i % 2 == 0 ? "jaewoo" : "woojin",
+                        "안녕하세요 " + i + "번째 메시지입니다", "TALK", base.plusSeconds(i)))
+                .toList();
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.demo.domain.chat.producer;
+
+import com.example.demo.domain.chat.controller.dto.ChatMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.Partitioner;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.common.utils.Utils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("채팅 Kafka 발행 - roomId 키 파티셔닝 단위 테스트")
+class ChatKafkaProducerTest {
+
+    private static final int PARTITIONS = 6;
+
+    private MockProducer<String, String> mockProducer;
+    private ObjectMapper objectMapper;
+    private ChatKafkaProducer producer;
+
+    @BeforeEach
+    void setUp() {
+        Node node = new Node(0, "localhost", 9092);
+        List<PartitionInfo> partitions = IntStream.range(0, PARTITIONS)
+                .mapToObj(p -> new PartitionInfo(ChatKafkaProducer.TOPIC, p, node, new Node[]{node}, new Node[]{node}))
+                .toList();
+        Cluster cluster = new Cluster("test", List.of(node), partitions, Set.of(), Set.of());
+
+        mockProducer = new MockProducer<>(cluster, true, new KeyHashPartitioner(), new StringSerializer(), new StringSerializer());
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        producer = new ChatKafkaProducer(new KafkaTemplate<>(new MockProducerFactory<>(() -> mockProducer)), objectMapper);
+    }
+
+    @Test
+    @DisplayName("1. 여러 방 메시지를 섞어 보내도 방마다 한 파티션에 발행 순서대로 쌓임")
+    void send_sameRoomSamePartitionInOrder() {
+        List<String> rooms = List.of("1", "2", "3", "42");
+        List<SendResult<String, String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            for (String room : rooms) {
+                results.add(producer.sendChatMessage(message(room, room + "-" + i)).join());
+            }
+        }
+
+        // 파티션에 실제로 기록된 (partition, offset) 으로 확인 - consumer 는 파티션을 오프셋 순서대로 읽는다
+        for (String room : rooms) {
+            List<RecordMetadata> written = results.stream()
+                    .filter(result -> result.getProducerRecord().key().equals(room))
+                    .map(SendResult::getRecordMetadata)
+                    .toList();
+            assertThat(written).extracting(RecordMetadata::partition).containsOnly(partitionOf(room));
+            assertThat(written).extracting(RecordMetadata::offset).isSorted().doesNotHaveDuplicates();
+        }
+        List<String> contentsOfRoom42 = results.stream()
+                .filter(result -> result.getProducerRecord().key().equals("42"))
+                .sorted(Comparator.comparingLong(result -> result.getRecordMetadata().offset()))
+                .map(result -> read(result.getProducerRecord().value()).getContent())
+                .toList();
+        assertThat(contentsOfRoom42).containsExactly("42-0", "42-1", "42-2", "42-3", "42-4");
+    }
+
+    @Test
+    @DisplayName("2. 같은 roomId 는 항상 같은 파티션, 여러 방은 파티션에 분산")
+    void roomKey_mapsToStablePartition() {
+        int first = partitionOf("42");
+        IntStream.range(0, 100).forEach(i -> assertThat(partitionOf("42")).isEqualTo(first));
+
+        Set<Integer> used = new HashSet<>();
+        for (int roomId = 1; roomId <= 200; roomId++) {
+            used.add(partitionOf(String.valueOf(roomId)));
+        }
+        assertThat(used).hasSize(PARTITIONS);
+    }
+
+    @Test
+    @DisplayName("3. roomId 없는 메시지는 발행하지 않음")
+    void send_withoutRoomId_rejected() {
+        assertThatThrownBy(() -> producer.sendChatMessage(message(null, "hi")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(mockProducer.history()).isEmpty();
+    }
+
+    // 키가 있는 레코드에 대한 Kafka 기본 파티셔닝 (murmur2 해시)
+    private static int partitionOf(String roomId) {
+        try (StringSerializer serializer = new StringSerializer()) {
+            return Utils.toPositive(Utils.murmur2(serializer.serialize(ChatKafkaProducer.TOPIC, roomId))) % PARTITIONS;
+        }
+    }
+
+    private ChatMessage message(String roomId, String content) {
+        return ChatMessage.builder()
+                .roomId(roomId)
+                .senderId(1L)
+                .nickname("jaewoo")
+                .content(content)
+                .messageType("TALK")
+                .build();
+    }
+
+    private ChatMessage read(String json) {
+        try {
+            return objectMapper.readValue(json, ChatMessage.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // MockProducer 에 기본 파티셔너와 같은 키 해시를 적용
+    private static class KeyHashPartitioner implements Partitioner {
+
+        @Override
+        public int partition(String topic, Object key, byte[] keyBytes, Object value, byte[] valueBytes, Cluster cluster) {
+            return Utils.toPositive(Utils.murmur2(keyBytes)) % cluster.partitionCountForTopic(topic);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void configure(Map<String, ?> configs) {
+        }
+    }
+}
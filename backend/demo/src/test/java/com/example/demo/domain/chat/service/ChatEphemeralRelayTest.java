@@ -0,0 +1,61 @@
+package com.example.demo.domain.chat.service;
+
+import com.example.demo.domain.chat.auth.ChatParticipantProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("채팅 휘발성 이벤트 경로 단위 테스트")
+class ChatEphemeralRelayTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ChatParticipantProvider participantProvider;
+    private ChatEphemeralRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        participantProvider = mock(ChatParticipantProvider.class);
+        relay = new ChatEphemeralRelay(redisTemplate, participantProvider, new ObjectMapper());
+        ReflectionTestUtils.setField(relay, "maxPerSecond", 3);
+        when(participantProvider.getActiveParticipantIdsCached(10L)).thenReturn(Set.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("1. 참여자의 입력 중 이벤트는 Pub/Sub 으로만 방송")
+    void relay_publishesToEphemeralChannel() {
+        boolean sent = relay.relay(1L, "TYPING", 10L, true);
+
+        assertThat(sent).isTrue();
+        verify(redisTemplate).convertAndSend(eq(ChatEphemeralRelay.CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("2. 참여자가 아니거나 허용되지 않은 종류면 버림")
+    void relay_dropsNonParticipantAndUnknownType() {
+        assertThat(relay.relay(3L, "TYPING", 10L, true)).isFalse();
+        assertThat(relay.relay(1L, "TALK", 10L, true)).isFalse();
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("3. 보낸 사람별 초당 한도 초과분은 버리고 다음 구간에 다시 허용")
+    void tryAcquire_limitsPerSecond() {
+        assertThat(relay.tryAcquire(1L, 100)).isTrue();
+        assertThat(relay.tryAcquire(1L, 100)).isTrue();
+        assertThat(relay.tryAcquire(1L, 100)).isTrue();
+        assertThat(relay.tryAcquire(1L, 100)).isFalse();
+        assertThat(relay.tryAcquire(2L, 100)).isTrue();
+        assertThat(relay.tryAcquire(1L, 101)).isTrue();
+    }
+}
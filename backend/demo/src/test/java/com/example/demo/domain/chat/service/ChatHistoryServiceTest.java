@@ -0,0 +1,163 @@
+package com.example.demo.domain.chat.service;
+
+import com.example.demo.domain.chat.archive.ArchivedMessage;
+import com.example.demo.domain.chat.archive.ChatSegmentCodec;
+import com.example.demo.domain.chat.controller.dto.ChatMessagePageResponse;
+import com.example.demo.domain.chat.controller.dto.ChatMessageResponse;
+import com.example.demo.domain.chat.entity.ChatMessageEntity;
+import com.example.demo.domain.chat.entity.ChatRoomParticipant;
+import com.example.demo.domain.chat.entity.ChatSegmentDocument;
+import com.example.demo.domain.chat.repository.ChatMessageRepository;
+import com.example.demo.domain.chat.repository.ChatParticipantRepository;
+import com.example.demo.domain.chat.repository.ChatSegmentMongoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("채팅 기록 hot -> cold 페이지 단위 테스트")
+class ChatHistoryServiceTest {
+
+    private static final Long ROOM_ID = 10L;
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private final ChatSegmentCodec codec = new ChatSegmentCodec(new ObjectMapper().findAndRegisterModules());
+    private ChatMessageRepository messageRepository;
+    private ChatParticipantRepository participantRepository;
+    private ChatSegmentMongoRepository segmentRepository;
+    private ChatHistoryService historyService;
+
+    private final List<ChatMessageEntity> hot = new ArrayList<>();
+    private final List<ChatSegmentDocument> cold = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        messageRepository = mock(ChatMessageRepository.class);
+        participantRepository = mock(ChatParticipantRepository.class);
+        segmentRepository = mock(ChatSegmentMongoRepository.class);
+        historyService = new ChatHistoryService(messageRepository, participantRepository, segmentRepository, codec);
+
+        joinedAt(BASE);
+        when(messageRepository.findHotPage(eq(ROOM_ID), anyLong(), any(), any())).thenAnswer(inv -> {
+            long cursor = inv.getArgument(1);
+            LocalDateTime joinedAt = inv.getArgument(2);
+            Pageable pageable = inv.getArgument(3);
+            return hot.stream()
+                    .filter(m -> m.getId() < cursor && m.getCreatedAt().isAfter(joinedAt))
+                    .sorted(Comparator.comparing(ChatMessageEntity::getId).reversed())
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+        when(segmentRepository.findByRoomIdAndFirstMessageIdLessThanOrderByLastMessageIdDesc(eq(ROOM_ID), anyLong(), any())).thenAnswer(inv -> {
+            long cursor = inv.getArgument(1);
+            Pageable pageable = inv.getArgument(2);
+            return cold.stream()
+                    .filter(s -> s.getFirstMessageId() < cursor)
+                    .sorted(Comparator.comparing(ChatSegmentDocument::getLastMessageId).reversed())
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("1. hot 이 모자라면 같은 페이지에 cold 묶음을 최신순으로 이어 붙인다")
+    void getHistory_fillsFromCold() {
+        hot(101, 105);
+        segment(91, 100);
+        segment(81, 90);
+
+        ChatMessagePageResponse page = historyService.getHistory(ROOM_ID, USER_ID, null, 8);
+
+        assertThat(ids(page)).containsExactly(105L, 104L, 103L, 102L, 101L, 100L, 99L, 98L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo(98L);
+    }
+
+    @Test
+    @DisplayName("2. cursor 로 이어 읽으면 묶음 경계를 넘어 끝까지 빠짐없이 내려간다")
+    void getHistory_pagesAcrossSegments() {
+        hot(101, 105);
+        segment(91, 100);
+        segment(81, 90);
+
+        ChatMessagePageResponse second = historyService.getHistory(ROOM_ID, USER_ID, 98L, 10);
+        ChatMessagePageResponse last = historyService.getHistory(ROOM_ID, USER_ID, second.getNextCursor(), 10);
+
+        assertThat(ids(second)).containsExactly(97L, 96L, 95L, 94L, 93L, 92L, 91L, 90L, 89L, 88L);
+        assertThat(second.getNextCursor()).isEqualTo(88L);
+        assertThat(ids(last)).containsExactly(87L, 86L, 85L, 84L, 83L, 82L, 81L);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("3. 보관 도중 멈춰 hot 과 cold 에 같이 있는 메시지는 한 번만 나온다")
+    void getHistory_skipsDuplicates() {
+        hot(96, 105);
+        segment(91, 100);
+
+        ChatMessagePageResponse page = historyService.getHistory(ROOM_ID, USER_ID, null, 20);
+
+        assertThat(ids(page)).containsExactlyElementsOf(LongStream.iterate(105, i -> i >= 91, i -> i - 1).boxed().toList());
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("4. 참여 전 메시지는 cold 에서도 나오지 않는다")
+    void getHistory_excludesBeforeJoined() {
+        hot(101, 105);
+        segment(91, 100);
+        segment(81, 90);
+        joinedAt(BASE.plusMinutes(95));
+
+        ChatMessagePageResponse page = historyService.getHistory(ROOM_ID, USER_ID, null, 30);
+
+        assertThat(ids(page)).containsExactly(105L, 104L, 103L, 102L, 101L, 100L, 99L, 98L, 97L, 96L);
+        assertThat(page.isHasNext()).isFalse();
+        verify(segmentRepository, times(1)).findByRoomIdAndFirstMessageIdLessThanOrderByLastMessageIdDesc(eq(ROOM_ID), anyLong(), any());
+    }
+
+    private void joinedAt(LocalDateTime joinedAt) {
+        ChatRoomParticipant participant = ChatRoomParticipant.builder().userId(USER_ID).joinedAt(joinedAt).build();
+        when(participantRepository.findByRoomIdAndUserId(ROOM_ID, USER_ID)).thenReturn(Optional.of(participant));
+    }
+
+    private void hot(long from, long to) {
+        LongStream.rangeClosed(from, to).forEach(id -> hot.add(ChatMessageEntity.builder()
+                .id(id).roomId(ROOM_ID).senderId(2L).nickname("woojin").content("msg " + id)
+                .messageType("TALK").createdAt(BASE.plusMinutes(id)).build()));
+    }
+
+    private void segment(long from, long to) {
+        List<ArchivedMessage> messages = LongStream.rangeClosed(from, to)
+                .mapToObj(id -> new ArchivedMessage(id, 2L, "woojin", "msg " + id, "TALK", BASE.plusMinutes(id)))
+                .toList();
+        cold.add(ChatSegmentDocument.builder()
+                .id(ChatSegmentDocument.segmentId(ROOM_ID, from, to))
+                .roomId(ROOM_ID)
+                .firstMessageId(from)
+                .lastMessageId(to)
+                .firstCreatedAt(BASE.plusMinutes(from))
+                .lastCreatedAt(BASE.plusMinutes(to))
+                .messageCount(messages.size())
+                .payload(codec.encode(messages))
+                .build());
+    }
+
+    private List<Long> ids(ChatMessagePageResponse page) {
+        return page.getItems().stream().map(ChatMessageResponse::getMessageId).toList();
+    }
+}
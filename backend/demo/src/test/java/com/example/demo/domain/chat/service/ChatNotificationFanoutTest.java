@@ -0,0 +1,81 @@
+package com.example.demo.domain.chat.service;
+
+import com.example.demo.domain.chat.auth.ChatParticipantProvider;
+import com.example.demo.domain.chat.controller.dto.ChatMessage;
+import com.example.demo.domain.notice.message.NotificationType;
+import com.example.demo.domain.notice.publisher.RedisNotificationPublisher;
+import com.example.demo.domain.notice.repository.NotificationBatchRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("채팅 알림 fan-out 단위 테스트")
+class ChatNotificationFanoutTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private ChatParticipantProvider participantProvider;
+    private ChatRoomViewers roomViewers;
+    private NotificationBatchRepository batchRepository;
+    private RedisNotificationPublisher publisher;
+    private ChatNotificationFanout fanout;
+
+    @BeforeEach
+    void setUp() {
+        participantProvider = mock(ChatParticipantProvider.class);
+        roomViewers = mock(ChatRoomViewers.class);
+        batchRepository = mock(NotificationBatchRepository.class);
+        publisher = mock(RedisNotificationPublisher.class);
+        fanout = new ChatNotificationFanout(objectMapper, participantProvider, roomViewers, batchRepository, publisher);
+
+        when(participantProvider.getParticipantIdsWithHiddenCached(10L)).thenReturn(Set.of(1L, 2L, 3L, 4L, 5L));
+    }
+
+    @Test
+    @DisplayName("1. 보낸 사람과 방을 보고 있는 사람을 빼고 한 번에 저장/발행")
+    void fanOut_skipsSenderAndViewers() throws Exception {
+        when(roomViewers.viewerIds(10L)).thenReturn(Set.of(2L, 4L));
+
+        int count = fanout.fanOut(talk(1L));
+
+        assertThat(count).isEqualTo(2);
+        verify(batchRepository, times(1)).insertForReceivers(
+                eq(List.of(3L, 5L)), eq(NotificationType.DM), eq(1L), eq("jaewoo"), anyString());
+        verify(publisher, times(1)).publishBatch(eq(List.of(3L, 5L)), anyString());
+    }
+
+    @Test
+    @DisplayName("2. 모두 보고 있으면 저장/발행하지 않음")
+    void fanOut_nothingWhenEveryoneIsViewing() throws Exception {
+        when(roomViewers.viewerIds(10L)).thenReturn(Set.of(2L, 3L, 4L, 5L));
+
+        assertThat(fanout.fanOut(talk(1L))).isZero();
+        verifyNoInteractions(batchRepository, publisher);
+    }
+
+    @Test
+    @DisplayName("3. TALK 가 아닌 메시지는 알림 대상이 아님")
+    void fanOut_ignoresNonTalk() throws Exception {
+        ChatMessage enter = ChatMessage.builder().roomId("10").senderId(1L).messageType("ENTER").build();
+
+        assertThat(fanout.fanOut(objectMapper.writeValueAsString(enter))).isZero();
+        verifyNoInteractions(roomViewers, batchRepository, publisher);
+    }
+
+    private String talk(Long senderId) throws Exception {
+        return objectMapper.writeValueAsString(ChatMessage.builder()
+                .roomId("10")
+                .senderId(senderId)
+                .nickname("jaewoo")
+                .content("다들 몇 시에 와?")
+                .messageType("TALK")
+                .build());
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.domain.chat.service;
+
+import com.example.demo.domain.chat.entity.ChatRoom;
+import com.example.demo.domain.chat.entity.ChatRoomParticipant;
+import com.example.demo.domain.chat.repository.ChatRoomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 트랜잭션을 실제로 커밋해야 경합이 재현되므로 @Transactional 없이 실행하고 끝나면 직접 지운다
+@SpringBootTest
+@DisplayName("1:1 채팅방 동시 생성 테스트")
+class DirectRoomConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private ChatRoomService chatRoomService;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    private final Long userA = 900_001L;
+    private final Long userB = 900_002L;
+
+    @AfterEach
+    void tearDown() {
+        chatRoomRepository.findByDirectKey(ChatRoom.directKey(userA, userB))
+                .ifPresent(chatRoomRepository::delete);
+    }
+
+    @Test
+    @DisplayName("1. 두 사람이 동시에 여러 번 DM 을 열어도 방은 하나만 생기고 참여자는 두 명")
+    void parallelFindOrCreate_createsSingleRoom() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            Long requester = i % 2 == 0 ? userA : userB;
+            Long partner = requester.equals(userA) ? userB : userA;
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return chatRoomService.findOrCreateDirectRoom(requester, partner, requester).getId();
+            }));
+        }
+        ready.await();
+        start.countDown();
+
+        Set<Long> roomIds = new HashSet<>();
+        for (Future<Long> result : results) {
+            roomIds.add(result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertThat(roomIds).hasSize(1);
+        ChatRoom room = chatRoomRepository.findByDirectKey(ChatRoom.directKey(userA, userB)).orElseThrow();
+        assertThat(room.getId()).isEqualTo(roomIds.iterator().next());
+        assertThat(room.getParticipants())
+                .extracting(ChatRoomParticipant::getUserId)
+                .containsExactlyInAnyOrder(userA, userB);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.demo.domain.chat.subscriber;
+
+import com.example.demo.domain.chat.controller.dto.ChatMessage;
+import com.example.demo.global.messaging.RoutingEnvelope;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 수신 → WebSocket 전달 구간의 메시지당 할당량 비교.
+ * - before : 본문 파싱으로 roomId 확인 + 수신자마다 TextMessage 생성
+ * - after  : 봉투 첫 줄에서 roomId, TextMessage 하나를 모든 수신자에게 재사용
+ * 실행 : ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DisplayName("채팅 전달 경로 메시지당 할당량 벤치마크")
+class ChatDeliveryAllocationBenchmark {
+
+    private static final int WARM_UP = 20_000;
+    private static final int MEASURED = 200_000;
+    private static final List<Integer> RECIPIENTS = List.of(2, 10, 50);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void benchmark() throws Exception {
+        String json = objectMapper.writeValueAsString(ChatMessage.builder()
+                .messageId(123456L)
+                .roomId("42")
+                .senderId(7L)
+                .nickname("jaewoo")
+                .content("오늘 저녁에 시간 괜찮아? 7시쯤 강남역에서 보자")
+                .messageType("TALK")
+                .createdAt(LocalDateTime.of(2024, 1, 1, 19, 0))
+                .build());
+        byte[] legacyBody = json.getBytes(StandardCharsets.UTF_8);
+        byte[] envelopeBody = RoutingEnvelope.wrap("42", json).getBytes(StandardCharsets.UTF_8);
+
+        for (int recipients : RECIPIENTS) {
+            long before = bytesPerMessage(body -> legacyDeliver(body, recipients), legacyBody);
+            long after = bytesPerMessage(body -> envelopeDeliver(body, recipients), envelopeBody);
+            System.out.printf("recipients=%d : before=%d B/msg, after=%d B/msg (%.1fx)%n",
+                    recipients, before, after, (double) before / after);
+            assertThat(after).isLessThan(before);
+        }
+    }
+
+    private void legacyDeliver(byte[] body, int recipients) {
+        try {
+            String payload = new String(body);
+            Long roomId = Long.parseLong(objectMapper.readValue(payload, ChatMessage.class).getRoomId());
+            for (int i = 0; i < recipients; i++) {
+                sink(roomId, new TextMessage(payload));
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void envelopeDeliver(byte[] body, int recipients) {
+        RoutingEnvelope.Envelope envelope = RoutingEnvelope.unwrap(body);
+        Long roomId = Long.parseLong(envelope.route());
+        TextMessage message = new TextMessage(envelope.payload());
+        for (int i = 0; i < recipients; i++) {
+            sink(roomId, message);
+        }
+    }
+
+    private long bytesPerMessage(Consumer<byte[]> deliver, byte[] body) {
+        for (int i = 0; i < WARM_UP; i++) {
+            deliver.accept(body);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long start = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED; i++) {
+            deliver.accept(body);
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - start) / MEASURED;
+    }
+
+    private volatile Object blackhole;
+
+    private void sink(Long roomId, TextMessage message) {
+        blackhole = message;
+    }
+}
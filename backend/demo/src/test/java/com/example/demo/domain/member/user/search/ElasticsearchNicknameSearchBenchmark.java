@@ -0,0 +1,64 @@
+package com.example.demo.domain.member.user.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.rest_client.RestClientTransport;
+import com.example.demo.domain.member.user.entity.UserEsDocument;
+import com.example.demo.global.util.EsIndexAliases;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.elasticsearch.ElasticsearchContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static com.example.demo.domain.member.user.search.NicknameSearchBenchmarkSupport.*;
+
+@Tag("benchmark")
+@Testcontainers
+@DisplayName("닉네임 검색 벤치마크 - Elasticsearch ngram")
+class ElasticsearchNicknameSearchBenchmark {
+
+    @Container
+    static ElasticsearchContainer elasticsearch =
+            new ElasticsearchContainer("docker.elastic.co/elasticsearch/elasticsearch:8.13.0")
+                    .withEnv("xpack.security.enabled", "false")
+                    .withEnv("ES_JAVA_OPTS", "-Xms1g -Xmx1g");
+
+    @Test
+    void benchmark() throws IOException {
+        RestClient restClient = RestClient.builder(HttpHost.create(elasticsearch.getHttpHostAddress())).build();
+        ElasticsearchClient client = new ElasticsearchClient(new RestClientTransport(restClient, new JacksonJsonpMapper()));
+        UserEsIndexManager indexManager = new UserEsIndexManager(client, new EsIndexAliases(client));
+        ElasticsearchNicknameSearchEngine engine = new ElasticsearchNicknameSearchEngine(client);
+
+        for (int size : sizes()) {
+            client.indices().delete(d -> d.index(UserEsIndexManager.INDEX).ignoreUnavailable(true));
+            indexManager.createIndex(UserEsIndexManager.INDEX);
+
+            forEachBatch(size, batch -> {
+                BulkRequest.Builder bulk = new BulkRequest.Builder();
+                batch.forEach(user -> bulk.operations(op -> op.index(i -> i
+                        .index(UserEsIndexManager.INDEX)
+                        .id(user.getId().toString())
+                        .document(new UserEsDocument(user.getId().toString(), user.getNickname())))));
+                try {
+                    client.bulk(bulk.build());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            client.indices().refresh(r -> r.index(UserEsIndexManager.INDEX));
+
+            measure("elasticsearch", size, indexManager.sizeInBytes(UserEsIndexManager.INDEX),
+                    keyword -> engine.search(keyword, LIMIT));
+        }
+        restClient.close();
+    }
+}
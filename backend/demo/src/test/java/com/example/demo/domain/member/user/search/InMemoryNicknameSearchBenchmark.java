@@ -0,0 +1,24 @@
+package com.example.demo.domain.member.user.search;
+
+import com.example.demo.domain.member.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static com.example.demo.domain.member.user.search.NicknameSearchBenchmarkSupport.*;
+import static org.mockito.Mockito.mock;
+
+@Tag("benchmark")
+@DisplayName("닉네임 검색 벤치마크 - 인메모리 n-gram 색인")
+class InMemoryNicknameSearchBenchmark {
+
+    @Test
+    void benchmark() {
+        for (int size : sizes()) {
+            NicknameSearchIndex index = new NicknameSearchIndex(mock(UserRepository.class));
+            forEachBatch(size, batch -> batch.forEach(user -> index.put(user.getId(), user.getNickname())));
+
+            measure("memory", size, index.estimatedSizeInBytes(), keyword -> index.search(keyword, LIMIT));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.domain.member.user.search;
+
+import com.example.demo.domain.member.user.entity.UserDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Locale;
+
+import static com.example.demo.domain.member.user.search.NicknameSearchBenchmarkSupport.*;
+
+@Tag("benchmark")
+@Testcontainers
+@DataMongoTest
+@Import(MongoNicknameSearchEngine.class)
+@DisplayName("닉네임 검색 벤치마크 - MongoDB 정규식")
+class MongoNicknameSearchBenchmark {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private MongoNicknameSearchEngine engine;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    void benchmark() {
+        for (int size : sizes()) {
+            mongoTemplate.dropCollection(UserDocument.class);
+            forEachBatch(size, batch -> mongoTemplate.insert(
+                    batch.stream()
+                            .map(user -> new UserDocument(user.getId().toString(), user.getNickname().toLowerCase(Locale.ROOT)))
+                            .toList(),
+                    UserDocument.class));
+
+            Document stats = mongoTemplate.getDb().runCommand(new Document("collStats", "user"));
+            long bytes = ((Number) stats.get("size")).longValue() + ((Number) stats.get("totalIndexSize")).longValue();
+
+            measure("mongo", size, bytes, keyword -> engine.search(keyword, LIMIT));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.domain.member.user.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static com.example.demo.domain.member.user.search.NicknameSearchBenchmarkSupport.*;
+
+@Tag("benchmark")
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MySqlNicknameSearchEngine.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("닉네임 검색 벤치마크 - MySQL LIKE")
+class MySqlNicknameSearchBenchmark {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create");
+    }
+
+    @Autowired
+    private MySqlNicknameSearchEngine engine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void benchmark() {
+        for (int size : sizes()) {
+            jdbcTemplate.execute("TRUNCATE TABLE user");
+            forEachBatch(size, batch -> jdbcTemplate.batchUpdate(
+                    "INSERT INTO user (id, email, nickname, user_role, is_private, bio) VALUES (?, '@.com', ?, 'USER', false, '')",
+                    batch, batch.size(),
+                    (ps, user) -> {
+                        ps.setLong(1, user.getId());
+                        ps.setString(2, user.getNickname());
+                    }));
+            jdbcTemplate.execute("ANALYZE TABLE user");
+
+            Long bytes = jdbcTemplate.queryForObject("""
+                    SELECT data_length + index_length FROM information_schema.tables
+                    WHERE table_schema = DATABASE() AND table_name = 'user'
+                    """, Long.class);
+
+            measure("mysql", size, bytes, keyword -> engine.search(keyword, LIMIT));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.domain.member.user.search;
+
+import com.example.demo.domain.member.user.controller.dto.UserDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 닉네임 검색 벤치마크 공통 로직.
+ * 데이터와 검색어는 seed 고정으로 생성하므로 같은 크기라면 엔진이 달라도 같은 입력으로 측정한다.
+ * 실행 : ./gradlew benchmark -Pbenchmark.sizes=10000,1000000,10000000
+ */
+final class NicknameSearchBenchmarkSupport {
+
+    static final int LIMIT = 20;
+    static final int BATCH_SIZE = 5000;
+
+    private static final int WARM_UP_QUERIES = 200;
+    private static final int MEASURED_QUERIES = 2000;
+    private static final long SEED = 42L;
+    private static final String[] WORDS = {
+            "jae", "woo", "kim", "lee", "park", "star", "moon", "cat", "dev", "java", "sky", "blue"
+    };
+
+    private NicknameSearchBenchmarkSupport() {
+    }
+
+    static List<Integer> sizes() {
+        return Arrays.stream(System.getProperty("benchmark.sizes", "10000").split(","))
+                .map(String::trim)
+                .map(Integer::parseInt)
+                .toList();
+    }
+
+    // id 1 ~ size 의 유저를 BATCH_SIZE 단위로 흘려보낸다 (10M 도 한 번에 메모리에 올리지 않음)
+    static void forEachBatch(int size, Consumer<List<UserDto>> sink) {
+        Random random = new Random(SEED);
+        List<UserDto> batch = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= size; id++) {
+            batch.add(new UserDto(id, nickname(random)));
+            if (batch.size() == BATCH_SIZE) {
+                sink.accept(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            sink.accept(batch);
+        }
+    }
+
+    static Result measure(String engine, int users, long indexBytes, Function<String, List<UserDto>> search) {
+        List<String> keywords = keywords();
+        for (int i = 0; i < WARM_UP_QUERIES; i++) {
+            search.apply(keywords.get(i % keywords.size()));
+        }
+
+        long[] elapsed = new long[MEASURED_QUERIES];
+        for (int i = 0; i < MEASURED_QUERIES; i++) {
+            String keyword = keywords.get(i % keywords.size());
+            long start = System.nanoTime();
+            search.apply(keyword);
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+
+        Result result = new Result(engine, users, percentile(elapsed, 50), percentile(elapsed, 99), indexBytes);
+        System.out.printf("[nickname-search] engine=%-13s users=%,11d p50=%,10.1fus p99=%,10.1fus index=%,.1fMB%n",
+                result.engine(), result.users(), result.p50Micros(), result.p99Micros(), result.indexBytes() / 1024.0 / 1024.0);
+        return result;
+    }
+
+    // 검색창 입력과 비슷하게 두 자리 숫자 / 단어 조각 / 단어+숫자를 섞는다
+    private static List<String> keywords() {
+        Random random = new Random(SEED + 1);
+        List<String> keywords = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            switch (i % 3) {
+                case 0 -> keywords.add(String.format("%02d", random.nextInt(100)));
+                case 1 -> {
+                    String word = WORDS[random.nextInt(WORDS.length)];
+                    keywords.add(word.substring(0, 2 + random.nextInt(word.length() - 1)));
+                }
+                default -> keywords.add(WORDS[random.nextInt(WORDS.length)] + random.nextInt(10));
+            }
+        }
+        return keywords;
+    }
+
+    private static String nickname(Random random) {
+        return WORDS[random.nextInt(WORDS.length)]
+                + WORDS[random.nextInt(WORDS.length)]
+                + random.nextInt(100_000);
+    }
+
+    private static double percentile(long[] sortedNanos, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000.0;
+    }
+
+    record Result(String engine, int users, double p50Micros, double p99Micros, long indexBytes) {
+    }
+}
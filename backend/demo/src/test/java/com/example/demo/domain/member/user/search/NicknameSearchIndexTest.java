@@ -0,0 +1,103 @@
+package com.example.demo.domain.member.user.search;
+
+import com.example.demo.domain.member.user.controller.dto.UserDto;
+import com.example.demo.domain.member.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("닉네임 n-gram 색인 단위 테스트")
+class NicknameSearchIndexTest {
+
+    private NicknameSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NicknameSearchIndex(mock(UserRepository.class));
+        index.put(1L, "Jaewoo");
+        index.put(2L, "woojin");
+        index.put(3L, "kimwoo12");
+        index.put(4L, "user01");
+    }
+
+    @Test
+    @DisplayName("1. 대소문자 무시 부분 일치 + 접두사 우선 정렬")
+    void search_containsIgnoreCase() {
+        List<Long> ids = ids(index.search("WOO", 20));
+
+        assertThat(ids).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("2. 한 글자 검색과 결과 개수 상한")
+    void search_singleCharacterWithLimit() {
+        assertThat(ids(index.search("1", 20))).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(index.search("o", 2)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("3. 닉네임 변경 시 이전 닉네임으로는 검색되지 않음")
+    void put_replacesPreviousNickname() {
+        index.put(4L, "newbie");
+
+        assertThat(ids(index.search("user", 20))).isEmpty();
+        assertThat(ids(index.search("bie", 20))).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("4. bigram 은 모두 있지만 연속되지 않은 경우 제외")
+    void search_verifiesContiguousMatch() {
+        index.put(5L, "abxbc");
+
+        assertThat(ids(index.search("abc", 20))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("5. 같은 사용자의 변경이 동시에 들어와도 마지막 닉네임 하나로만 검색됨")
+    void put_concurrentSameUser() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Void>> tasks = IntStream.range(0, 200)
+                    .mapToObj(i -> (Callable<Void>) () -> {
+                        index.put(9L, "racer" + (i % 8) + "x");
+                        return null;
+                    })
+                    .toList();
+            executor.invokeAll(tasks);
+        } finally {
+            executor.shutdown();
+        }
+
+        long matched = IntStream.range(0, 8)
+                .filter(i -> ids(index.search("racer" + i + "x", 20)).contains(9L))
+                .count();
+        assertThat(matched).isEqualTo(1);
+        assertThat(ids(index.search("racer", 20))).containsExactly(9L);
+    }
+
+    @Test
+    @DisplayName("6. 중간 일치 후보가 MAX_SCAN 을 넘어도 완전/접두사 일치가 먼저 나옴")
+    void search_prefixBeyondScanCap() {
+        for (long id = 100; id < 3100; id++) {
+            index.put(id, "zz" + id + "kim");
+        }
+        index.put(90_000L, "kimchi");
+        index.put(90_001L, "Kim");
+
+        assertThat(ids(index.search("kim", 2))).containsExactly(90_001L, 90_000L);
+        assertThat(index.search("kim", 5)).hasSize(5);
+    }
+
+    private List<Long> ids(List<UserDto> users) {
+        return users.stream().map(UserDto::getId).toList();
+    }
+}
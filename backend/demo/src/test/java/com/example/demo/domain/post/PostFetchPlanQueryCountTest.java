@@ -0,0 +1,204 @@
+package com.example.demo.domain.post;
+
+import com.example.demo.domain.member.user.entity.User;
+import com.example.demo.domain.member.user.repository.UserRepository;
+import com.example.demo.domain.notice.producer.NotificationProducer;
+import com.example.demo.domain.post.comment.controller.dto.CommentCreateRequest;
+import com.example.demo.domain.post.comment.controller.dto.CommentPageResponse;
+import com.example.demo.domain.post.comment.entity.Comment;
+import com.example.demo.domain.post.comment.service.CommentService;
+import com.example.demo.domain.post.feed.controller.dto.UserFeedPageResponse;
+import com.example.demo.domain.post.feed.service.UserFeedService;
+import com.example.demo.domain.post.like.service.PostLikeTransaction;
+import com.example.demo.domain.post.post.cache.PostDetailCache;
+import com.example.demo.domain.post.post.controller.dto.PostResponse;
+import com.example.demo.domain.post.post.entity.Post;
+import com.example.demo.domain.post.post.entity.PostImage;
+import com.example.demo.domain.post.post.service.PostService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글이 많은 게시글에서도 좋아요/댓글 작성/상세/프로필 피드가 댓글/게시글 수와 무관한 고정 개수의 쿼리만 쓰는지 확인한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@DisplayName("게시글 fetch plan 쿼리 수 테스트")
+class PostFetchPlanQueryCountTest {
+
+    private static final int COMMENT_COUNT = 200;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostLikeTransaction postLikeTransaction;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostDetailCache postDetailCache;
+
+    @Autowired
+    private UserFeedService userFeedService;
+
+    @MockitoBean
+    private NotificationProducer notificationProducer;
+
+    private Statistics statistics;
+    private User author;
+    private User viewer;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(new User("author"));
+        viewer = userRepository.save(new User("viewer"));
+
+        post = new Post();
+        post.setTitle("제목");
+        post.setContent("내용");
+        post.setAuthor(author);
+        post.setLikeCount(0);
+        PostImage image = new PostImage();
+        image.setImageURL("https://example.com/1.jpg");
+        post.addImage(image);
+        em.persist(post);
+
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            Comment comment = new Comment();
+            comment.setPost(post);
+            comment.setAuthor(viewer);
+            comment.setComment("댓글 " + i);
+            em.persist(comment);
+        }
+
+        em.flush();
+        em.clear();
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("1. 게시글 좋아요 - 댓글을 불러오지 않음")
+    void toggleLike_doesNotLoadComments() {
+        postLikeTransaction.toggle(viewer.getId(), post.getPostId());
+        em.flush();
+
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(3); // post, author, viewer
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("2. 댓글 작성 - 기존 댓글 수와 무관")
+    void createComment_doesNotLoadComments() {
+        CommentCreateRequest request = new CommentCreateRequest();
+        request.setPostId(post.getPostId());
+        request.setContent("새 댓글");
+
+        commentService.createComment(viewer.getId(), request);
+        em.flush();
+
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("3. 댓글 페이지 조회 - 엔티티 로딩 없이 페이지 크기만큼만 조회")
+    void getComments_readsOnePageByProjection() {
+        CommentPageResponse first = commentService.getComments(post.getPostId(), viewer.getId(), null, 20);
+        CommentPageResponse second = commentService.getComments(post.getPostId(), viewer.getId(), first.getNextCursor(), 20);
+
+        assertThat(first.getItems()).hasSize(20);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getItems().get(0).getCommentId()).isGreaterThan(first.getNextCursor());
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4); // 페이지 + 좋아요 여부 x 2
+    }
+
+    @Test
+    @DisplayName("4. 답글은 답글 수만 내려주고 별도 페이지로 조회")
+    void getReplies_pagedSeparately() {
+        Long parentId = commentService.getComments(post.getPostId(), viewer.getId(), null, 1)
+                .getItems().get(0).getCommentId();
+        for (int i = 0; i < 3; i++) {
+            CommentCreateRequest request = new CommentCreateRequest();
+            request.setPostId(post.getPostId());
+            request.setParentId(parentId);
+            request.setContent("답글 " + i);
+            commentService.createComment(author.getId(), request);
+        }
+        em.flush();
+        em.clear();
+
+        CommentPageResponse top = commentService.getComments(post.getPostId(), viewer.getId(), null, 1);
+        CommentPageResponse replies = commentService.getReplies(parentId, viewer.getId(), null, 2);
+
+        assertThat(top.getItems().get(0).getReplyCount()).isEqualTo(3L);
+        assertThat(replies.getItems()).hasSize(2);
+        assertThat(replies.isHasNext()).isTrue();
+        assertThat(commentService.getReplies(parentId, viewer.getId(), replies.getNextCursor(), 2).getItems()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("5. 게시글 상세 - 캐시 miss 시 작성자/이미지를 한 번의 조회로")
+    void getPost_loadsDetailGraphInOneQuery() {
+        postDetailCache.invalidate(post.getPostId()); // 이전 실행에서 같은 id 로 남은 스냅샷을 쓰지 않도록
+
+        PostResponse response = postService.getPost(post.getPostId(), viewer.getId());
+
+        assertThat(response).isNotNull();
+        assertThat(statistics.getEntityFetchCount()).isZero();     // 작성자 지연 로딩 없음
+        assertThat(statistics.getCollectionFetchCount()).isZero(); // 이미지/댓글 지연 로딩 없음
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2); // 상세 graph + 좋아요 여부
+    }
+
+    @Test
+    @DisplayName("6. 프로필 피드 - 게시글 수와 무관하게 커버링 조회 한 번")
+    void userFeedPage_readsGridByProjection() {
+        for (int i = 0; i < 40; i++) {
+            Post extra = new Post();
+            extra.setTitle("제목 " + i);
+            extra.setContent("내용");
+            extra.setAuthor(author);
+            extra.setLikeCount(0);
+            em.persist(extra);
+        }
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        UserFeedPageResponse page = userFeedService.userFeedPage(author.getId(), viewer.getId(), null, 30);
+
+        assertThat(page.getItems()).hasSize(30);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(1); // 공개 여부 확인용 작성자
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3); // 작성자 + 팔로우 여부 + 그리드
+    }
+}
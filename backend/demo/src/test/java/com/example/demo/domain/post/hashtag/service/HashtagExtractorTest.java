@@ -0,0 +1,40 @@
+package com.example.demo.domain.post.hashtag.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("해시태그 추출 단위 테스트")
+class HashtagExtractorTest {
+
+    @Test
+    @DisplayName("1. 한글/영문/숫자 태그 추출, 소문자 통일, 중복 제거")
+    void extract_normalizesAndDeduplicates() {
+        assertThat(HashtagExtractor.extract("오늘 #여행 #Travel #travel #2024_여름!"))
+                .containsExactly("여행", "travel", "2024_여름");
+    }
+
+    @Test
+    @DisplayName("2. 붙어 있는 태그와 구두점 처리")
+    void extract_adjacentTags() {
+        assertThat(HashtagExtractor.extract("#a#b, #c. # d")).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    @DisplayName("4. 최대 길이를 넘는 태그는 잘라 쓰지 않고 건너뜀")
+    void extract_skipsTooLongTag() {
+        String tooLong = "a".repeat(HashtagExtractor.MAX_TAG_LENGTH + 1);
+        String longest = "b".repeat(HashtagExtractor.MAX_TAG_LENGTH);
+
+        assertThat(HashtagExtractor.extract("#" + tooLong + " #" + longest + " #ok"))
+                .containsExactly(longest, "ok");
+    }
+
+    @Test
+    @DisplayName("3. 태그 없음 / null")
+    void extract_empty() {
+        assertThat(HashtagExtractor.extract("태그 없는 글")).isEmpty();
+        assertThat(HashtagExtractor.extract(null)).isEmpty();
+    }
+}
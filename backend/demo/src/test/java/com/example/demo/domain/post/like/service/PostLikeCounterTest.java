@@ -0,0 +1,107 @@
+package com.example.demo.domain.post.like.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 샤드를 쓰던 인스턴스가 사라진 상황을 인스턴스 두 개(a, b)로 재현 (Docker 필요)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("게시글 좋아요 카운터 샤드 정리 테스트")
+class PostLikeCounterTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static final Long POST_ID = 1L;
+    private static final int LIKES = 80; // 초당 50회를 넘겨 샤드 모드로 전환
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redis;
+    private PostLikeCounter a;
+    private PostLikeCounter b;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redis = new StringRedisTemplate(connectionFactory);
+        redis.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RLock lock = mock(RLock.class);
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(lock.tryLock()).thenReturn(true);
+        a = new PostLikeCounter(redis, redissonClient);
+        b = new PostLikeCounter(redis, redissonClient);
+
+        for (int i = 0; i < LIKES; i++) {
+            a.add(POST_ID, 1);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("1. 샤드로 나뉜 동안 다른 인스턴스도 합계를 읽음")
+    void get_sumsShardsWrittenByAnotherInstance() {
+        assertThat(redis.hasKey("post:like:hot:" + POST_ID)).isTrue();
+        assertThat(b.get(POST_ID)).isEqualTo(LIKES);
+    }
+
+    @Test
+    @DisplayName("2. 샤드를 쓰던 인스턴스가 사라지면 다른 인스턴스가 기본 키로 모은 뒤 표시를 지움")
+    void sweepOrphans_foldsStaleShards() {
+        long now = System.currentTimeMillis();
+        redis.opsForValue().set("post:like:hot:" + POST_ID, String.valueOf(now - PostLikeCounter.STALE_MS - 1));
+
+        b.sweepOrphans(now);
+
+        assertThat(redis.opsForValue().get("post:like:" + POST_ID)).isEqualTo(String.valueOf(LIKES));
+        assertThat(redis.hasKey("post:like:hot:" + POST_ID)).isFalse();
+        assertThat(redis.keys("post:like:" + POST_ID + ":s*")).isEmpty();
+        assertThat(b.get(POST_ID)).isEqualTo(LIKES);
+    }
+
+    @Test
+    @DisplayName("3. 표시가 이미 만료됐어도 기록된 게시글의 샤드를 모음")
+    void sweepOrphans_foldsAfterMarkerExpired() {
+        redis.delete("post:like:hot:" + POST_ID);
+
+        b.sweepOrphans(System.currentTimeMillis());
+
+        assertThat(b.get(POST_ID)).isEqualTo(LIKES);
+        assertThat(redis.opsForSet().members("post:like:hot-posts")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("4. 최근에 갱신된 표시는 아직 쓰는 중이므로 건드리지 않음")
+    void sweepOrphans_skipsActiveShards() {
+        b.sweepOrphans(System.currentTimeMillis());
+
+        assertThat(redis.hasKey("post:like:hot:" + POST_ID)).isTrue();
+        assertThat(redis.keys("post:like:" + POST_ID + ":s*")).isNotEmpty();
+        assertThat(b.get(POST_ID)).isEqualTo(LIKES);
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.demo.domain.post.post.image;
+
+import com.example.demo.domain.post.post.entity.Post;
+import com.example.demo.domain.post.post.entity.PostImage;
+import com.example.demo.domain.post.post.repository.PostImageRepository;
+import com.example.demo.domain.post.post.repository.PostRepository;
+import com.example.demo.global.storage.LocalObjectStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("게시글 이미지 파생본 생성 단위 테스트")
+class ImageDerivativeServiceTest {
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStorage storage;
+    private PostImageRepository repository;
+    private StringRedisTemplate redis;
+    private ValueOperations<String, String> valueOps;
+    private ImageDerivativeService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        storage = new LocalObjectStorage(root.toString(), "/files/");
+        repository = mock(PostImageRepository.class);
+        redis = mock(StringRedisTemplate.class);
+        valueOps = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(valueOps);
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RLock lock = mock(RLock.class);
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(lock.tryLock()).thenReturn(true);
+        service = new ImageDerivativeService(repository, mock(PostRepository.class), storage, new ImageResizer(),
+                mock(PlatformTransactionManager.class), redis, redissonClient);
+    }
+
+    @Test
+    @DisplayName("1. 원본을 썸네일/중간 크기로 줄이고 URL 을 저장")
+    void generateForPost_writesVariants() throws IOException {
+        storage.write("uploads/abc_photo.png", png(2000, 1000), "image/png");
+        when(repository.findByPost_PostIdAndThumbnailUrlIsNull(1L))
+                .thenReturn(List.of(image(10L, "/files/uploads/abc_photo.png")));
+
+        service.generateForPost(1L);
+
+        verify(repository).updateDerivatives(10L,
+                "/files/derived/thumb/uploads/abc_photo.png.jpg", "/files/derived/medium/uploads/abc_photo.png.jpg");
+        assertThat(width("derived/thumb/uploads/abc_photo.png.jpg")).isEqualTo(320);
+        assertThat(width("derived/medium/uploads/abc_photo.png.jpg")).isEqualTo(1080);
+    }
+
+    @Test
+    @DisplayName("2. 원본보다 크게 늘리지 않음")
+    void generateForPost_doesNotUpscale() throws IOException {
+        storage.write("uploads/small.png", png(200, 100), "image/png");
+        when(repository.findByPost_PostIdAndThumbnailUrlIsNull(1L))
+                .thenReturn(List.of(image(11L, "/files/uploads/small.png")));
+
+        service.generateForPost(1L);
+
+        assertThat(width("derived/thumb/uploads/small.png.jpg")).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("4. 파일 이름이 같아도 경로/확장자가 다르면 파생본 키가 겹치지 않음")
+    void keyFor_keepsFullOriginalKey() {
+        assertThat(ImageVariant.THUMBNAIL.keyFor("a/x.png"))
+                .isNotEqualTo(ImageVariant.THUMBNAIL.keyFor("b/x.png"))
+                .isNotEqualTo(ImageVariant.THUMBNAIL.keyFor("a/x.jpg"));
+    }
+
+    @Test
+    @DisplayName("3. 저장소 밖의 외부 URL 은 건너뜀")
+    void generateForPost_skipsExternalUrl() {
+        when(repository.findByPost_PostIdAndThumbnailUrlIsNull(1L))
+                .thenReturn(List.of(image(12L, "https://example.com/a.png")));
+
+        service.generateForPost(1L);
+
+        verify(repository, never()).updateDerivatives(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("5. 해상도가 너무 큰 이미지는 디코딩하기 전에 건너뜀")
+    void generateForPost_rejectsHugeImage() throws IOException {
+        // 1비트 흑백이라 파일/테스트 메모리는 작지만 가로x세로는 MAX_PIXELS 를 넘는다
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(10_000, 3_000, BufferedImage.TYPE_BYTE_BINARY), "png", out);
+        storage.write("uploads/huge.png", out.toByteArray(), "image/png");
+        when(repository.findByPost_PostIdAndThumbnailUrlIsNull(1L))
+                .thenReturn(List.of(image(13L, "/files/uploads/huge.png")));
+
+        service.generateForPost(1L);
+
+        verify(repository, never()).updateDerivatives(any(), any(), any());
+        assertThat(root.resolve("derived/thumb/uploads/huge.png.jpg")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("6. 백필은 파생본이 없는 이미지를 커서 다음부터 처리하고 커서를 옮김")
+    void backfill_processesMissingAndAdvancesCursor() throws IOException {
+        storage.write("uploads/late.png", png(800, 400), "image/png");
+        PostImage late = image(21L, "/files/uploads/late.png");
+        late.setPost(Post.builder().postId(5L).build());
+        when(valueOps.get(anyString())).thenReturn("20");
+        when(repository.findMissingDerivatives(eq(20L), any())).thenReturn(List.of(late));
+
+        service.backfill();
+
+        verify(repository).updateDerivatives(eq(21L), anyString(), anyString());
+        verify(valueOps).set(anyString(), eq("21"));
+    }
+
+    @Test
+    @DisplayName("7. 백필이 끝까지 돌면 커서를 지워 처음부터 다시 돈다")
+    void backfill_wrapsAround() {
+        when(valueOps.get(anyString())).thenReturn("99");
+        when(repository.findMissingDerivatives(eq(99L), any())).thenReturn(List.of());
+
+        service.backfill();
+
+        verify(redis).delete(anyString());
+        verify(repository, never()).updateDerivatives(any(), any(), any());
+    }
+
+    private PostImage image(Long id, String url) {
+        PostImage image = new PostImage();
+        image.setImage_id(id);
+        image.setImageURL(url);
+        return image;
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+
+    private int width(String key) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(storage.read(key))).getWidth();
+    }
+}
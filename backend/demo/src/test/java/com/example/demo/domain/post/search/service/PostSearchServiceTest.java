@@ -0,0 +1,143 @@
+package com.example.demo.domain.post.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.MultiMatchQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.CountRequest;
+import co.elastic.clients.elasticsearch.core.CountResponse;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
+import com.example.demo.domain.post.search.controller.dto.PostSearchResponse;
+import com.example.demo.domain.post.search.entity.PostEsDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("게시글 검색 질의/페이지 단위 테스트")
+class PostSearchServiceTest {
+
+    private ElasticsearchClient client;
+    private PostSearchService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        client = mock(ElasticsearchClient.class);
+        service = new PostSearchService(client);
+
+        when(client.search(any(SearchRequest.class), eq(PostEsDocument.class))).thenReturn(response(42, List.of()));
+        when(client.count(any(CountRequest.class))).thenReturn(CountResponse.of(c -> c
+                .count(1234)
+                .shards(s -> s.total(1).successful(1).failed(0))));
+    }
+
+    @Test
+    @DisplayName("1. 제목/닉네임/본문 가중치 검색 + 공개 계정 글 또는 본인 글만")
+    void search_buildsQuery() throws IOException {
+        service.search("여행", 7L, 0, 20);
+
+        BoolQuery bool = captureSearch().query().bool();
+        MultiMatchQuery match = bool.must().get(0).multiMatch();
+        assertThat(match.query()).isEqualTo("여행");
+        assertThat(match.fields()).containsExactly("title^3", "authorNickname^2", "content");
+
+        BoolQuery visibility = bool.filter().get(0).bool();
+        assertThat(visibility.minimumShouldMatch()).isEqualTo("1");
+        assertThat(visibility.should()).hasSize(2);
+        assertThat(visibility.should().get(0).term().field()).isEqualTo("authorPrivate");
+        assertThat(visibility.should().get(0).term().value().booleanValue()).isFalse();
+        assertThat(visibility.should().get(1).term().field()).isEqualTo("authorId");
+        assertThat(visibility.should().get(1).term().value().longValue()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("2. 로그인하지 않은 검색은 공개 계정 글만")
+    void search_anonymousOnlyPublic() throws IOException {
+        service.search("여행", null, 0, 20);
+
+        List<Query> should = captureSearch().query().bool().filter().get(0).bool().should();
+        assertThat(should).hasSize(1);
+        assertThat(should.get(0).term().field()).isEqualTo("authorPrivate");
+    }
+
+    @Test
+    @DisplayName("3. page/size 로 from 을 계산하고 size 는 최대 50")
+    void search_paging() throws IOException {
+        PostSearchResponse result = service.search("여행", 7L, 3, 500);
+
+        SearchRequest request = captureSearch();
+        assertThat(request.size()).isEqualTo(50);
+        assertThat(request.from()).isEqualTo(150);
+        assertThat(result.getSize()).isEqualTo(50);
+        assertThat(result.getTotal()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("4. 결과는 ES 문서와 하이라이트만으로 만든다")
+    void search_mapsHits() throws IOException {
+        PostEsDocument doc = PostEsDocument.builder()
+                .postId(1L).title("제주 여행").authorId(2L).authorNickname("woojin").imageUrl("/a.jpg").build();
+        Hit<PostEsDocument> hit = Hit.of(h -> h
+                .index(PostEsIndexManager.INDEX)
+                .id("1")
+                .source(doc)
+                .highlight(Map.of("title", List.of("제주 <em>여행</em>"))));
+        when(client.search(any(SearchRequest.class), eq(PostEsDocument.class))).thenReturn(response(1, List.of(hit)));
+
+        PostSearchResponse result = service.search("여행", 7L, 0, 20);
+
+        assertThat(result.getTotal()).isEqualTo(1);
+        assertThat(result.getHits()).singleElement().satisfies(h -> {
+            assertThat(h.getPostId()).isEqualTo(1L);
+            assertThat(h.getTitleHighlights()).containsExactly("제주 <em>여행</em>");
+            assertThat(h.getContentHighlights()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("5. 결과 창(1000건)을 넘는 페이지는 문서 없이 실제 전체 개수만 반환")
+    void search_beyondWindowReturnsTotal() throws IOException {
+        PostSearchResponse result = service.search("여행", 7L, 50, 20);
+
+        assertThat(result.getTotal()).isEqualTo(1234);
+        assertThat(result.getHits()).isEmpty();
+        verify(client, never()).search(any(SearchRequest.class), eq(PostEsDocument.class));
+        verify(client).count(any(CountRequest.class));
+    }
+
+    @Test
+    @DisplayName("6. 빈 검색어는 ES 를 호출하지 않음")
+    void search_blankKeyword() throws IOException {
+        PostSearchResponse result = service.search("  ", 7L, 0, 20);
+
+        assertThat(result.getTotal()).isZero();
+        verifyNoInteractions(client);
+    }
+
+    private SearchRequest captureSearch() throws IOException {
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(captor.capture(), eq(PostEsDocument.class));
+        return captor.getValue();
+    }
+
+    private SearchResponse<PostEsDocument> response(long total, List<Hit<PostEsDocument>> hits) {
+        return SearchResponse.of(r -> r
+                .took(1)
+                .timedOut(false)
+                .shards(s -> s.total(1).successful(1).failed(0))
+                .hits(h -> h
+                        .total(t -> t.value(total).relation(TotalHitsRelation.Eq))
+                        .hits(hits)));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.domain.post.trending.service;
+
+import com.example.demo.domain.member.follow.entity.Follow;
+import com.example.demo.domain.member.follow.event.FollowedEvent;
+import com.example.demo.domain.member.follow.repository.FollowRepository;
+import com.example.demo.domain.member.follow.service.FollowService;
+import com.example.demo.domain.member.user.entity.User;
+import com.example.demo.domain.member.user.repository.UserRepository;
+import com.example.demo.domain.notice.producer.NotificationProducer;
+import com.example.demo.domain.post.post.repository.PostRepository;
+import com.example.demo.global.util.Util;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("인기 게시글 팔로우 점수 단위 테스트")
+class TrendingServiceTest {
+
+    private static final Long FOLLOWER_ID = 1L;
+    private static final Long FOLLOWING_ID = 2L;
+    private static final Long LATEST_POST_ID = 30L;
+
+    private StringRedisTemplate redis;
+    private ValueOperations<String, String> valueOps;
+    private ZSetOperations<String, String> zSetOps;
+    private PostRepository postRepository;
+    private TrendingService trendingService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = mock(StringRedisTemplate.class);
+        valueOps = mock(ValueOperations.class);
+        zSetOps = mock(ZSetOperations.class);
+        when(redis.opsForValue()).thenReturn(valueOps);
+        when(redis.opsForZSet()).thenReturn(zSetOps);
+        when(valueOps.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        postRepository = mock(PostRepository.class);
+        when(postRepository.findLatestPostIdByAuthorId(FOLLOWING_ID)).thenReturn(LATEST_POST_ID);
+        trendingService = new TrendingService(redis, mock(RedissonClient.class), postRepository);
+    }
+
+    @Test
+    @DisplayName("1. 공개 계정 팔로우는 작성자의 최근 게시글 점수를 올린다")
+    void onFollowed_publicAccount() {
+        trendingService.onFollowed(new FollowedEvent(FOLLOWER_ID, FOLLOWING_ID, true));
+
+        verify(zSetOps).incrementScore(anyString(), eq(String.valueOf(LATEST_POST_ID)), anyDouble());
+    }
+
+    @Test
+    @DisplayName("2. 비공개 계정의 팔로우 요청 승인은 인기 게시글에 반영하지 않는다")
+    void onFollowed_privateApproval() {
+        User follower = User.builder().id(FOLLOWER_ID).nickname("jaewoo").build();
+        User following = User.builder().id(FOLLOWING_ID).nickname("woojin").isPrivate(true).build();
+        FollowRepository followRepository = mock(FollowRepository.class);
+        when(followRepository.findByFollowerIdAndFollowingId(FOLLOWER_ID, FOLLOWING_ID))
+                .thenReturn(Optional.of(new Follow(follower, following)));
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        FollowService followService = new FollowService(mock(UserRepository.class), followRepository,
+                mock(Util.class), mock(NotificationProducer.class), eventPublisher);
+
+        followService.approveFollow(FOLLOWER_ID, FOLLOWING_ID);
+
+        ArgumentCaptor<FollowedEvent> captor = ArgumentCaptor.forClass(FollowedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().isPublicPost()).isFalse();
+
+        trendingService.onFollowed(captor.getValue());
+
+        verifyNoInteractions(zSetOps, postRepository);
+        verify(valueOps, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+}
@@ -2,13 +2,28 @@
 
 import { useEffect, useRef, useState } from "react";
 import { useParams } from "next/navigation";
-import { ChatMessage } from "@/app/types/chat";
+import {
+  ChatEphemeralEvent,
+  ChatMessage,
+  ChatMessagePageResponse,
+  ChatReadReceipt,
+  ChatSocketAck,
+} from "@/app/types/chat";
 import { useAuth } from "@/lib/auth/AuthProvider";
 
 export default function ChatRoomDetailPage() {
   const { roomId } = useParams();
   const { user } = useAuth();
   const [messages, setMessages] = useState<ChatMessage[]>([]);
+  const [reads, setReads] = useState<Record<string, number>>({});
+  const [nextCursor, setNextCursor] = useState<number | null>(null);
+  const [loadingOlder, setLoadingOlder] = useState(false);
+  const [othersTyping, setOthersTyping] = useState(false);
+  const [othersPresent, setOthersPresent] = useState(false);
+  const [reconnectKey, setReconnectKey] = useState(0);
+  const typingSentAtRef = useRef(0);
+  const typingTimerRef = useRef<ReturnType<typeof setTimeout> | null>(null);
+  const presenceTimerRef = useRef<ReturnType<typeof setTimeout> | null>(null);
   const [content, setContent] = useState("");
   const [showDeleteModal, setShowDeleteModal] = useState(false);
   const [showEmojiModal, setShowEmojiModal] = useState(false);
@@ -53,17 +68,52 @@ export default function ChatRoomDetailPage() {
     "🎉",
   ];
 
+  // 기록 한 페이지 (최신순으로 오므로 화면 순서로 뒤집는다)
+  const fetchHistory = async (cursor: number | null) => {
+    const params = cursor ? `?cursor=${cursor}` : "";
+    const res = await fetch(
+      `${process.env.NEXT_PUBLIC_API_BASE_URL}/chat/messages/${roomId}/history${params}`,
+      {
+        credentials: "include",
+      }
+    );
+    const data: ChatMessagePageResponse = await res.json();
+    setNextCursor(data.hasNext ? data.nextCursor : null);
+    return data.items
+      .map((item) => ({ ...item, roomId: String(roomId) }))
+      .reverse();
+  };
+
+  const loadOlder = async () => {
+    if (!nextCursor || loadingOlder) return;
+    setLoadingOlder(true);
+    try {
+      const older = await fetchHistory(nextCursor);
+      setMessages((prev) => [...older, ...prev]);
+    } finally {
+      setLoadingOlder(false);
+    }
+  };
+
   // 초기 메시지 불러오기
   useEffect(() => {
     const fetchMessages = async () => {
-      const res = await fetch(
-        `${process.env.NEXT_PUBLIC_API_BASE_URL}/chat/messages/${roomId}`,
+      setMessages(await fetchHistory(null));
+      const readsRes = await fetch(
+        `${process.env.NEXT_PUBLIC_API_BASE_URL}/chat/rooms/${roomId}/reads`,
+        {
+          credentials: "include",
+        }
+      );
+      if (readsRes.ok) setReads(await readsRes.json());
+      // 방에 들어오면 안 읽은 수 초기화
+      await fetch(
+        `${process.env.NEXT_PUBLIC_API_BASE_URL}/chat/rooms/${roomId}/read`,
         {
+          method: "POST",
           credentials: "include",
         }
       );
-      const data = await res.json();
-      setMessages(data);
     };
     fetchMessages();
   }, [roomId]);
@@ -75,19 +125,142 @@ export default function ChatRoomDetailPage() {
       `${process.env.NEXT_PUBLIC_WS_BASE_URL}/chat?userId=${user.id}`
     );
     wsRef.current = ws;
+    let disposed = false;
 
     ws.onmessage = (event) => {
-      const newMessage: ChatMessage = JSON.parse(event.data);
-      if (newMessage.roomId === String(roomId)) {
-        setMessages((prev) => [...prev, newMessage]);
+      const data = JSON.parse(event.data);
+      if (data.roomId !== String(roomId)) return;
+      if (data.type === "READ_RECEIPT") {
+        setReads((data as ChatReadReceipt).reads);
+        return;
+      }
+      if (data.type === "TYPING" || data.type === "PRESENCE") {
+        handleEphemeral(data as ChatEphemeralEvent);
+        return;
+      }
+      if (data.type === "ACK") {
+        const ack = data as ChatSocketAck;
+        if (!ack.ok) {
+          // 전송 실패 - 임시 메시지를 지우고 입력창에 되돌림
+          setMessages((prev) => {
+            const failed = prev.find(
+              (msg) => msg.clientMessageId === ack.clientMessageId
+            );
+            if (failed) setContent(failed.content);
+            return prev.filter(
+              (msg) => msg.clientMessageId !== ack.clientMessageId
+            );
+          });
+        }
+        return;
+      }
+      const incoming = data as ChatMessage;
+      setMessages((prev) => {
+        // 내가 보낸 임시 메시지는 저장된 메시지로 교체
+        const index = incoming.clientMessageId
+          ? prev.findIndex(
+              (msg) => msg.pending && msg.clientMessageId === incoming.clientMessageId
+            )
+          : -1;
+        if (index < 0) return [...prev, incoming];
+        const next = [...prev];
+        next[index] = incoming;
+        return next;
+      });
+    };
+
+    // 방을 보고 있는 동안 20초마다 접속 표시
+    const sendPresence = (active: boolean) => {
+      if (ws.readyState !== WebSocket.OPEN) return;
+      ws.send(
+        JSON.stringify({ type: "PRESENCE", roomId: Number(roomId), active })
+      );
+    };
+    const presenceInterval = setInterval(() => sendPresence(true), 20000);
+
+    ws.onopen = () => {
+      console.log("🔌 WebSocket 연결됨");
+      sendPresence(true);
+    };
+    ws.onclose = (event) => {
+      console.log("❌ WebSocket 연결 종료");
+      // 서버가 전송이 밀린 연결을 끊은 경우(4500) - 빠진 메시지는 기록으로 다시 받고 재연결
+      if (!disposed && event.code === 4500) {
+        fetchHistory(null).then(setMessages);
+        setReconnectKey((key) => key + 1);
       }
     };
 
-    ws.onopen = () => console.log("🔌 WebSocket 연결됨");
-    ws.onclose = () => console.log("❌ WebSocket 연결 종료");
+    return () => {
+      disposed = true;
+      clearInterval(presenceInterval);
+      sendPresence(false);
+      ws.close();
+    };
+  }, [user, roomId, reconnectKey]);
+
+  // 입력 중/접속 표시는 유실될 수 있으므로 일정 시간 소식이 없으면 스스로 끈다
+  const handleEphemeral = (event: ChatEphemeralEvent) => {
+    if (event.type === "TYPING") {
+      if (typingTimerRef.current) clearTimeout(typingTimerRef.current);
+      setOthersTyping(event.active);
+      if (event.active) {
+        typingTimerRef.current = setTimeout(() => setOthersTyping(false), 5000);
+      }
+    } else {
+      if (presenceTimerRef.current) clearTimeout(presenceTimerRef.current);
+      setOthersPresent(event.active);
+      if (event.active) {
+        presenceTimerRef.current = setTimeout(
+          () => setOthersPresent(false),
+          45000
+        );
+      }
+    }
+  };
+
+  const sendTyping = (active: boolean) => {
+    const ws = wsRef.current;
+    if (!ws || ws.readyState !== WebSocket.OPEN) return;
+    // 입력 중 표시는 2초에 한 번만
+    const now = Date.now();
+    if (active && now - typingSentAtRef.current < 2000) return;
+    typingSentAtRef.current = active ? now : 0;
+    ws.send(JSON.stringify({ type: "TYPING", roomId: Number(roomId), active }));
+  };
 
-    return () => ws.close();
-  }, [user, roomId]);
+  // 마지막으로 본 메시지까지 읽음 - 서버가 모아서 반영하므로 메시지마다 보내도 된다
+  const lastMessageId = messages.length
+    ? messages[messages.length - 1].messageId
+    : undefined;
+  useEffect(() => {
+    const ws = wsRef.current;
+    if (!lastMessageId || !ws) return;
+    const sendRead = () =>
+      ws.send(
+        JSON.stringify({
+          type: "READ",
+          roomId: Number(roomId),
+          messageId: lastMessageId,
+        })
+      );
+    if (ws.readyState === WebSocket.OPEN) {
+      sendRead();
+    } else {
+      ws.addEventListener("open", sendRead, { once: true });
+    }
+  }, [lastMessageId, roomId]);
+
+  // 내가 보낸 마지막 메시지를 다른 참여자가 읽었는지
+  const lastOwnMessageId = [...messages]
+    .reverse()
+    .find((msg) => String(msg.senderId) === user?.id)?.messageId;
+  const seenByOthers =
+    lastOwnMessageId !== undefined &&
+    Object.entries(reads).some(
+      ([readerId, readId]) =>
+        readerId !== String(user?.id) && readId >= lastOwnMessageId
+    );
 
   // 메시지 전송
   const sendMessage = async () => {
@@ -104,6 +277,36 @@ export default function ChatRoomDetailPage() {
     // 입력창 미리 비우기 (중복 전송 방지)
     const messageToSend = content;
     setContent("");
+    sendTyping(false);
+
+    // 연결된 WebSocket 이 있으면 그 위로 보내고 ACK 로 결과를 받는다
+    const ws = wsRef.current;
+    if (ws && ws.readyState === WebSocket.OPEN && user) {
+      const clientMessageId = crypto.randomUUID();
+      setMessages((prev) => [
+        ...prev,
+        {
+          roomId: String(roomId),
+          senderId: Number(user.id),
+          nickname: user.nickname,
+          content: messageToSend,
+          messageType: "TALK",
+          createdAt: new Date().toISOString(),
+          clientMessageId,
+          pending: true,
+        },
+      ]);
+      ws.send(
+        JSON.stringify({
+          type: "SEND",
+          roomId: Number(roomId),
+          content: messageToSend,
+          clientMessageId,
+        })
+      );
+      inputRef.current?.focus();
+      return;
+    }
 
     try {
       await fetch(`${process.env.NEXT_PUBLIC_API_BASE_URL}/chat/send`, {
@@ -150,10 +353,11 @@ export default function ChatRoomDetailPage() {
     }
   };
 
-  // 스크롤 하단 고정
+  // 스크롤 하단 고정 - 이전 메시지를 앞에 붙일 때는 움직이지 않도록 마지막 메시지 기준
+  const lastMessage = messages[messages.length - 1];
   useEffect(() => {
     bottomRef.current?.scrollIntoView({ behavior: "smooth" });
-  }, [messages]);
+  }, [lastMessage]);
 
   // 채팅방 이름 설정 (현재 사용자가 아닌 상대방의 닉네임으로)
   const getChatRoomName = () => {
@@ -195,7 +399,9 @@ export default function ChatRoomDetailPage() {
               <h1 className="font-semibold text-gray-900 text-sm">
                 {getChatRoomName()}
               </h1>
-              <p className="text-xs text-gray-500">활동 중</p>
+              <p className="text-xs text-gray-500">
+                {othersTyping ? "입력 중..." : othersPresent ? "활동 중" : ""}
+              </p>
             </div>
           </div>
         </div>
@@ -221,6 +427,17 @@ export default function ChatRoomDetailPage() {
 
       {/* 메시지 영역 */}
       <div className="flex-1 overflow-y-auto py-3 px-4 bg-white">
+        {nextCursor && (
+          <div className="text-center mb-3">
+            <button
+              onClick={loadOlder}
+              disabled={loadingOlder}
+              className="text-xs text-gray-500"
+            >
+              {loadingOlder ? "불러오는 중..." : "이전 메시지 보기"}
+            </button>
+          </div>
+        )}
         {messages.map((msg, idx) => {
           const isCurrentUser = msg.nickname === user?.nickname;
 
@@ -245,6 +462,8 @@ export default function ChatRoomDetailPage() {
                 )}
                 <div
                   className={`rounded-2xl px-3 py-2 break-words text-sm ${
+                    msg.pending ? "opacity-60 " : ""
+                  }${
                     isCurrentUser
                       ? "bg-blue-500 text-white rounded-br-sm"
                       : "bg-gray-100 text-gray-800 rounded-bl-sm"
@@ -261,6 +480,10 @@ export default function ChatRoomDetailPage() {
                     hour: "2-digit",
                     minute: "2-digit",
                   })}
+                  {isCurrentUser &&
+                    seenByOthers &&
+                    msg.messageId === lastOwnMessageId &&
+                    " · 읽음"}
                 </div>
               </div>
             </div>
@@ -277,7 +500,10 @@ export default function ChatRoomDetailPage() {
             type="text"
             className="bg-transparent border-none outline-none flex-1 py-1 px-2 text-gray-800 placeholder-gray-500 text-sm"
             value={content}
-            onChange={(e) => setContent(e.target.value)}
+            onChange={(e) => {
+              setContent(e.target.value);
+              sendTyping(e.target.value.length > 0);
+            }}
             onCompositionStart={() => setIsComposing(true)}
             onCompositionEnd={() => setIsComposing(false)}
             onKeyDown={(e) => {
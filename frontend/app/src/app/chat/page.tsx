@@ -46,12 +46,23 @@ export default function ChatRoomListPage() {
               className="border p-4 rounded hover:bg-gray-50 cursor-pointer"
               onClick={() => handleEnterRoom(room.roomId)}
             >
-              <p className="font-semibold">
-                {room.type === "DIRECT"
-                  ? "1:1 채팅방"
-                  : `그룹 채팅: ${room.roomName}`}
+              <div className="flex items-center justify-between">
+                <p className="font-semibold">
+                  {room.type === "DIRECT"
+                    ? "1:1 채팅방"
+                    : `그룹 채팅: ${room.roomName}`}
+                </p>
+                {room.unreadCount > 0 && (
+                  <span className="bg-red-500 text-white text-xs rounded-full px-2 py-0.5">
+                    {room.unreadCount}
+                  </span>
+                )}
+              </div>
+              <p className="text-sm text-gray-500 truncate">
+                {room.lastMessage
+                  ? `${room.lastSenderNickname}: ${room.lastMessage}`
+                  : `방 ID: ${room.roomId}`}
               </p>
-              <p className="text-sm text-gray-500">방 ID: {room.roomId}</p>
             </li>
           ))}
         </ul>
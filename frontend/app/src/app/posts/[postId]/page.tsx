@@ -14,10 +14,16 @@ interface CommentResponse {
   modifiedAt: string;
   likedByCurrentUser: boolean;
   likeCount: number;
-  children: CommentResponse[];
+  replyCount: number;
   isAuthor: boolean;
 }
 
+interface CommentPageResponse {
+  items: CommentResponse[];
+  nextCursor: number | null;
+  hasNext: boolean;
+}
+
 interface PostResponse {
   id: number;
   title: string;
@@ -26,6 +32,7 @@ interface PostResponse {
   authorNickname: string;
   updatedAt: string;
   likeCount: number;
+  commentCount: number;
   likedByCurrentUser: boolean;
   imageUrls: string[];
   isAuthor: boolean;
@@ -36,6 +43,10 @@ export default function PostDetailPage() {
   const router = useRouter();
   const [post, setPost] = useState<PostResponse | null>(null);
   const [comments, setComments] = useState<CommentResponse[]>([]);
+  const [nextCursor, setNextCursor] = useState<number | null>(null);
+  const [replies, setReplies] = useState<Record<number, CommentPageResponse>>(
+    {}
+  );
   const [newComment, setNewComment] = useState("");
   const [replyTo, setReplyTo] = useState<number | null>(null);
   const [editingCommentId, setEditingCommentId] = useState<number | null>(null);
@@ -62,21 +73,52 @@ export default function PostDetailPage() {
     }
   };
 
-  const fetchComments = async () => {
+  // cursor 없이 호출하면 첫 페이지부터 다시 불러옴
+  const fetchComments = async (cursor?: number) => {
     try {
+      const query = cursor ? `?cursor=${cursor}` : "";
       const res = await fetch(
-        `${process.env.NEXT_PUBLIC_API_BASE_URL}/comments/${postId}`,
+        `${process.env.NEXT_PUBLIC_API_BASE_URL}/comments/${postId}${query}`,
         {
           credentials: "include",
         }
       );
-      const data = await res.json();
-      if (Array.isArray(data)) {
-        setComments(data);
+      const data: CommentPageResponse = await res.json();
+      if (!Array.isArray(data.items)) {
+        console.warn("댓글 형식이 올바르지 않음", data);
+        return;
+      }
+      if (cursor) {
+        setComments((prev) => [...prev, ...data.items]);
       } else {
-        console.warn("댓글 형식이 배열이 아님", data);
-        setComments([]);
+        setComments(data.items);
+        setReplies({});
       }
+      setNextCursor(data.nextCursor);
+    } catch (err) {
+      console.error(err);
+    }
+  };
+
+  const fetchReplies = async (commentId: number, cursor?: number) => {
+    try {
+      const query = cursor ? `?cursor=${cursor}` : "";
+      const res = await fetch(
+        `${process.env.NEXT_PUBLIC_API_BASE_URL}/comments/${commentId}/replies${query}`,
+        {
+          credentials: "include",
+        }
+      );
+      const data: CommentPageResponse = await res.json();
+      setReplies((prev) => ({
+        ...prev,
+        [commentId]: {
+          ...data,
+          items: cursor
+            ? [...(prev[commentId]?.items ?? []), ...data.items]
+            : data.items,
+        },
+      }));
     } catch (err) {
       console.error(err);
     }
@@ -149,6 +191,7 @@ export default function PostDetailPage() {
       setNewComment("");
       setReplyTo(null);
       fetchComments();
+      fetchPost(); // 댓글 수 갱신
     } catch (err) {
       console.error(err);
     }
@@ -186,6 +229,7 @@ export default function PostDetailPage() {
       );
       if (!res.ok) throw new Error("댓글 삭제 실패");
       fetchComments();
+      fetchPost(); // 댓글 수 갱신
     } catch (err) {
       console.error(err);
     }
@@ -314,11 +358,31 @@ export default function PostDetailPage() {
         </div>
       </div>
 
-      {comment.children && comment.children.length > 0 && (
+      {replies[comment.commentId]?.items.length > 0 && (
         <div className="ml-6 border-l-2 border-gray-100 pl-3 mt-2 space-y-2">
-          {comment.children.map((child) => renderCommentTree(child, depth + 1))}
+          {replies[comment.commentId].items.map((child) =>
+            renderCommentTree(child, depth + 1)
+          )}
         </div>
       )}
+
+      {comment.replyCount > 0 &&
+        (!replies[comment.commentId] ||
+          replies[comment.commentId].hasNext) && (
+          <button
+            onClick={() =>
+              fetchReplies(
+                comment.commentId,
+                replies[comment.commentId]?.nextCursor ?? undefined
+              )
+            }
+            className="ml-10 mt-1 text-xs text-gray-500"
+          >
+            {replies[comment.commentId]
+              ? "답글 더 보기"
+              : `답글 ${comment.replyCount}개 보기`}
+          </button>
+        )}
     </div>
   );
 
@@ -544,13 +608,21 @@ export default function PostDetailPage() {
           {/* 댓글 섹션 */}
           <div className="px-4 pt-4 border-t border-gray-100 mt-4">
             <h3 className="text-sm text-gray-500 mb-4">
-              {comments.length > 0
-                ? `댓글 ${comments.length}개`
+              {post.commentCount > 0
+                ? `댓글 ${post.commentCount}개`
                 : "첫 댓글을 남겨보세요"}
             </h3>
 
             {/* 댓글 목록 */}
             {renderComments(comments)}
+            {nextCursor && (
+              <button
+                onClick={() => fetchComments(nextCursor)}
+                className="mt-4 text-sm text-gray-500"
+              >
+                댓글 더 보기
+              </button>
+            )}
 
             {/* 댓글 입력 */}
             <div className="sticky bottom-0 border-t border-gray-200 bg-white py-3 px-4 flex items-center mt-6">
@@ -5,13 +5,61 @@ export interface ChatRoomSummaryResponse {
   roomId: number;
   roomName: string | null;
   type: ChatRoomType;
+  lastMessageId: number | null;
+  lastMessage: string | null;
+  lastSenderNickname: string | null;
+  lastMessageAt: string | null;
+  unreadCount: number;
 }
 
 export interface ChatMessage {
+  messageId?: number;
   roomId: string;
   senderId: number;
   nickname: string;
   content: string;
   messageType: string;
   createdAt: string;
+  clientMessageId?: string;
+  pending?: boolean; // ACK/에코 전까지 화면에만 있는 메시지
+}
+
+// GET /chat/messages/{roomId}/history - 최신순
+export interface ChatHistoryMessage {
+  messageId: number;
+  senderId: number;
+  nickname: string;
+  content: string;
+  messageType: string;
+  createdAt: string;
+}
+
+export interface ChatMessagePageResponse {
+  items: ChatHistoryMessage[];
+  nextCursor: number | null;
+  hasNext: boolean;
+}
+
+// WebSocket SEND 결과
+export interface ChatSocketAck {
+  type: "ACK";
+  roomId: string | null;
+  clientMessageId: string | null;
+  ok: boolean;
+  error: string | null;
+}
+
+// 방 참여자별 마지막 읽은 메시지 id (userId -> messageId)
+export interface ChatReadReceipt {
+  type: "READ_RECEIPT";
+  roomId: string;
+  reads: Record<string, number>;
+}
+
+// 저장되지 않는 입력 중/접속 표시 이벤트
+export interface ChatEphemeralEvent {
+  type: "TYPING" | "PRESENCE";
+  roomId: string;
+  userId: number;
+  active: boolean;
 }